@@ -0,0 +1,17 @@
+#!/bin/sh
+set -ex
+
+# Variables
+#
+# Build variables for directories.
+SCRIPT=$(readlink -f "$0")
+DIR="$(dirname $SCRIPT)"
+ROOT_DIR="$(dirname $DIR)"
+SRC_DIR="${ROOT_DIR}/src"
+BUILD_DIR="${ROOT_DIR}/build"
+
+# Benchmark
+#
+# Run the JMH benchmarks, writing the results to target/jmh-result.json
+cd $SRC_DIR
+mvn -P benchmark clean verify -DskipTests "$@"
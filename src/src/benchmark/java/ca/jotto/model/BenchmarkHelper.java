@@ -0,0 +1,58 @@
+package ca.jotto.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Provides the realistic inputs shared by the benchmarks.
+ * <p>
+ * The dictionary is read from the path in the 'jotto.words' system property, defaulting to resources/words.txt
+ * relative to the working directory of the build.
+ */
+public final class BenchmarkHelper {
+
+    static public final String WORDS = System.getProperty("jotto.words", "resources/words.txt");
+
+    static public final long SEED = 0x4A4F54544FL;
+
+    private BenchmarkHelper() {
+    }
+
+    static public byte[] bytes() throws IOException {
+        return Files.readAllBytes(Paths.get(WORDS));
+    }
+
+    static public JDictionary dictionary() throws IOException {
+        try (InputStream is = Files.newInputStream(Paths.get(WORDS))) {
+            return JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+    }
+
+    static public String[] words(JDictionary dictionary, int count) {
+        Random random = new Random(SEED);
+        String[] words = new String[count];
+        for (int i = 0; i < count; i++) {
+            words[i] = dictionary.at(random.nextInt(dictionary.length())).word();
+        }
+        return words;
+    }
+
+    static public String[] misses(JDictionary dictionary, int count) {
+        Random random = new Random(SEED);
+        String[] words = new String[count];
+        for (int i = 0; i < count; ) {
+            char[] word = new char[dictionary.size()];
+            for (int l = 0; l < word.length; l++) {
+                word[l] = (char) ('A' + random.nextInt(26));
+            }
+            String miss = new String(word);
+            if (!dictionary.contains(miss)) {
+                words[i++] = miss;
+            }
+        }
+        return words;
+    }
+}
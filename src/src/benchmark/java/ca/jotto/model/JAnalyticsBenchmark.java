@@ -0,0 +1,87 @@
+package ca.jotto.model;
+
+import ca.jotto.model.listeners.LetterListener;
+import ca.jotto.model.listeners.StateListener;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JAnalyticsBenchmark {
+
+    static private final int LABEL_TOKENS = 20;
+
+    @Param({"1", "5", "10"})
+    public int guesses;
+
+    /**
+     * The board listening to the letters: none, one that repaints every label on each character event, or one that
+     * repaints the labels of each letter delta.
+     */
+    @Param({"NONE", "STATE", "LETTER"})
+    public String board;
+
+    private Jotto _jotto;
+    private JMatch _match;
+    private JHistory _history;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        JSecret secret = new JSecret(dictionary.at(0));
+
+        _jotto = new Jotto(dictionary);
+        final int labels = dictionary.getCharset().length();
+        if (board.equals("STATE")) {
+            _jotto.getEventMap().addListener(new StateListener() {
+                @Override
+                public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+                }
+
+                @Override
+                public void onCharacterEliminated(Jotto jotto, char character) {
+                    Blackhole.consumeCPU(labels * LABEL_TOKENS);
+                }
+
+                @Override
+                public void onCharacterExact(Jotto jotto, char character) {
+                    Blackhole.consumeCPU(labels * LABEL_TOKENS);
+                }
+            });
+        } else if (board.equals("LETTER")) {
+            _jotto.getEventMap().addListener(new LetterListener() {
+                @Override
+                public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+                    Blackhole.consumeCPU(delta.length() * LABEL_TOKENS);
+                }
+            });
+        }
+        _match = _jotto.construct(dictionary.at(0));
+        _history = new JHistory(dictionary.getCharset(), dictionary.size());
+        for (String word : BenchmarkHelper.words(dictionary, guesses)) {
+            _history.add(secret.guess(word));
+        }
+    }
+
+    @Benchmark
+    public JAnalytics compute() {
+        JAnalytics analytics = new JAnalytics(_jotto.getCharset(), _jotto.getWordSize());
+        analytics.compute(_match, _jotto.getEventMap(), _history);
+        return analytics;
+    }
+
+    @Benchmark
+    public JAnalytics update() {
+        JAnalytics analytics = new JAnalytics(_jotto.getCharset(), _jotto.getWordSize());
+        for (int i = 0; i < _history.length(); i++) {
+            analytics.update(_match, _jotto.getEventMap(), _history.get(i));
+        }
+        return analytics;
+    }
+}
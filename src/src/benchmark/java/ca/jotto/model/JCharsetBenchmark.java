@@ -0,0 +1,46 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JCharsetBenchmark {
+
+    static private final int WORDS = 1024;
+
+    private String[] _words;
+    private byte[] _indices;
+    private int _next;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        _words = BenchmarkHelper.words(dictionary, WORDS);
+        _indices = new byte[dictionary.size()];
+    }
+
+    @Benchmark
+    public int get() {
+        _next = (_next + 1) & (WORDS - 1);
+        return JCharset.DEFAULT.get(_words[_next].charAt(0));
+    }
+
+    @Benchmark
+    public Boolean contains() {
+        _next = (_next + 1) & (WORDS - 1);
+        return JCharset.DEFAULT.contains(_words[_next]);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        _next = (_next + 1) & (WORDS - 1);
+        JCharset.DEFAULT.encode(_words[_next], _indices);
+        return _indices;
+    }
+}
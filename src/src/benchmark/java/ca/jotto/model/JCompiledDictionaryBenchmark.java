@@ -0,0 +1,40 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JCompiledDictionaryBenchmark {
+
+    private byte[] _text;
+    private ByteBuffer _binary;
+
+    @Setup
+    public void setup() throws Exception {
+        _text = BenchmarkHelper.bytes();
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        JCompiledDictionary.write(BenchmarkHelper.dictionary(), os);
+        _binary = ByteBuffer.allocateDirect(os.size());
+        _binary.put(os.toByteArray()).flip();
+    }
+
+    @Benchmark
+    public JDictionary text() throws Exception {
+        return JDictionary.fromStream(JCharset.DEFAULT, new ByteArrayInputStream(_text));
+    }
+
+    @Benchmark
+    public JDictionary binary() throws Exception {
+        return JCompiledDictionary.read(_binary);
+    }
+}
@@ -0,0 +1,99 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JDictionaryBenchmark {
+
+    static private final int WORDS = 1024;
+    static private final int SAMPLE = 64;
+
+    private byte[] _bytes;
+    private JDictionary _dictionary;
+    private JDictionary _hashed;
+    private JDictionary _filtered;
+    private String[] _hits;
+    private String[] _misses;
+    private int _next;
+    private SplittableRandom _random;
+
+    @Setup
+    public void setup() throws Exception {
+        _bytes = BenchmarkHelper.bytes();
+        _dictionary = BenchmarkHelper.dictionary();
+        _hits = BenchmarkHelper.words(_dictionary, WORDS);
+        _misses = BenchmarkHelper.misses(_dictionary, WORDS);
+        _random = new SplittableRandom(BenchmarkHelper.SEED);
+        _hashed = BenchmarkHelper.dictionary();
+        _hashed.perfectHash();
+        _filtered = BenchmarkHelper.dictionary();
+        _filtered.perfectHash();
+        _filtered.bloomFilter(0.01);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public JDictionary fromStream() throws Exception {
+        return JDictionary.fromStream(JCharset.DEFAULT, new ByteArrayInputStream(_bytes));
+    }
+
+    @Benchmark
+    public Boolean containsHit() {
+        _next = (_next + 1) & (WORDS - 1);
+        return _dictionary.contains(_hits[_next]);
+    }
+
+    @Benchmark
+    public Boolean containsMiss() {
+        _next = (_next + 1) & (WORDS - 1);
+        return _dictionary.contains(_misses[_next]);
+    }
+
+    @Benchmark
+    public Boolean perfectHashHit() {
+        _next = (_next + 1) & (WORDS - 1);
+        return _hashed.contains(_hits[_next]);
+    }
+
+    @Benchmark
+    public Boolean perfectHashMiss() {
+        _next = (_next + 1) & (WORDS - 1);
+        return _hashed.contains(_misses[_next]);
+    }
+
+    @Benchmark
+    public Boolean bloomFilterHit() {
+        _next = (_next + 1) & (WORDS - 1);
+        return _filtered.contains(_hits[_next]);
+    }
+
+    @Benchmark
+    public Boolean bloomFilterMiss() {
+        _next = (_next + 1) & (WORDS - 1);
+        return _filtered.contains(_misses[_next]);
+    }
+
+    @Benchmark
+    public JWord random() {
+        return _dictionary.random(_dictionary.minimum());
+    }
+
+    @Benchmark
+    public JWord randomSeeded() {
+        return _dictionary.random(_dictionary.minimum(), _random);
+    }
+
+    @Benchmark
+    public int[] sample() {
+        return _dictionary.sample(_dictionary.minimum(), SAMPLE, _random);
+    }
+}
@@ -0,0 +1,61 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JFeedbackBenchmark {
+
+    static private final int PAIRS = 1024;
+
+    private JDictionary _dictionary;
+    private String[] _guesses;
+    private String[] _secrets;
+    private int[] _guessIndices;
+    private int[] _secretIndices;
+    private int _next;
+
+    @Setup
+    public void setup() throws Exception {
+        _dictionary = BenchmarkHelper.dictionary();
+        String[] words = BenchmarkHelper.words(_dictionary, 2 * PAIRS);
+        _guesses = new String[PAIRS];
+        _secrets = new String[PAIRS];
+        _guessIndices = new int[PAIRS];
+        _secretIndices = new int[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            _guesses[i] = words[2 * i];
+            _secrets[i] = words[2 * i + 1];
+            _guessIndices[i] = _dictionary.indexOf(_guesses[i]);
+            _secretIndices[i] = _dictionary.indexOf(_secrets[i]);
+        }
+    }
+
+    private int next() {
+        return _next = (_next + 1) & (PAIRS - 1);
+    }
+
+    @Benchmark
+    public JWordMatch[] compareTo() {
+        int i = next();
+        return JWordMatch.compareTo(_guesses[i], _secrets[i]);
+    }
+
+    @Benchmark
+    public int score() {
+        int i = next();
+        return JFeedback.score(_guesses[i], _secrets[i]);
+    }
+
+    @Benchmark
+    public int scoreIndexed() {
+        int i = next();
+        return _dictionary.score(_guessIndices[i], _secretIndices[i]);
+    }
+}
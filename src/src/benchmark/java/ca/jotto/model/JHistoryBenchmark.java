@@ -0,0 +1,45 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JHistoryBenchmark {
+
+    @Param({"1", "5", "10"})
+    public int guesses;
+
+    private JHistory _history;
+    private String _hit;
+    private String _miss;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        JSecret secret = new JSecret(dictionary.at(0));
+        String[] words = BenchmarkHelper.words(dictionary, guesses);
+
+        _history = new JHistory(dictionary.getCharset(), dictionary.size());
+        for (String word : words) {
+            _history.add(secret.guess(word));
+        }
+        _hit = words[words.length - 1];
+        _miss = BenchmarkHelper.misses(dictionary, 1)[0];
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return _history.contains(_hit);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return _history.contains(_miss);
+    }
+}
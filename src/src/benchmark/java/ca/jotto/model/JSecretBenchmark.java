@@ -0,0 +1,39 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSecretBenchmark {
+
+    static private final int GUESSES = 1024;
+
+    private JSecret _secret;
+    private String[] _guesses;
+    private int _next;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        _secret = new JSecret(dictionary.at(dictionary.length() / 2));
+        _guesses = BenchmarkHelper.words(dictionary, GUESSES);
+    }
+
+    @Benchmark
+    public JGuess guess() {
+        _next = (_next + 1) & (GUESSES - 1);
+        return _secret.guess(_guesses[_next]);
+    }
+
+    @Benchmark
+    public JWordMatch[] guessMatches() {
+        _next = (_next + 1) & (GUESSES - 1);
+        return _secret.guess(_guesses[_next]).matches();
+    }
+}
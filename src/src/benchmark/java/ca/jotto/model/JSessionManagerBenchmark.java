@@ -0,0 +1,104 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSessionManagerBenchmark {
+
+    static private final int MATCHES = 100000;
+    static private final int WORDS = 1024;
+
+    @Param({"1", "64"})
+    public int shards;
+
+    private JSessionManager _manager;
+    private long[] _ids;
+    private String[] _words;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        _manager = new JSessionManager(new Jotto(dictionary), shards, 1, TimeUnit.HOURS);
+        _words = BenchmarkHelper.words(dictionary, WORDS);
+        _ids = new long[MATCHES];
+        for (int i = 0; i < MATCHES; i++) {
+            _ids[i] = _manager.open(dictionary.at(i % dictionary.length()));
+        }
+    }
+
+    /**
+     * The random choices of a client thread, seeded distinctly for each thread so that threads do not draw the same
+     * matches in lockstep.
+     */
+    @State(Scope.Thread)
+    public static class Client {
+
+        static private final AtomicInteger CLIENTS = new AtomicInteger();
+
+        private final SplittableRandom _random = new SplittableRandom(BenchmarkHelper.SEED + CLIENTS.getAndIncrement());
+    }
+
+    /**
+     * Serves a request of an open match, validating a guess of the player.
+     */
+    private JValidation request(Client client) {
+        JMatch match = _manager.get(_ids[client._random.nextInt(MATCHES)]);
+        synchronized (match) {
+            return match.validate(_words[client._random.nextInt(WORDS)]);
+        }
+    }
+
+    /**
+     * Opens, accesses and closes a match.
+     */
+    private JMatch lifecycle(Client client) {
+        long id = _manager.open(_manager.getJotto().getDictionary().at(client._random.nextInt(WORDS)));
+        _manager.get(id);
+        return _manager.close(id);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public JValidation request1(Client client) {
+        return request(client);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public JValidation request2(Client client) {
+        return request(client);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public JValidation request4(Client client) {
+        return request(client);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public JValidation request8(Client client) {
+        return request(client);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public JMatch lifecycle1(Client client) {
+        return lifecycle(client);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public JMatch lifecycle8(Client client) {
+        return lifecycle(client);
+    }
+}
@@ -0,0 +1,45 @@
+package ca.jotto.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSolverBenchmark {
+
+    @Param({"entropy", "minimax"})
+    public String strategy;
+
+    private JSolver _solver;
+    private JCandidateSet _first;
+    private JCandidateSet _second;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        dictionary.feedbackMatrix();
+
+        JStrategy value = "entropy".equals(strategy) ? new JEntropyStrategy() : new JMinimaxStrategy();
+        _solver = new JSolver(dictionary, value, ForkJoinPool.commonPool(), 0);
+        _first = new JCandidateSet(dictionary);
+        _second = new JCandidateSet(dictionary);
+        int guess = _solver.suggest(_first);
+        _second.narrow(guess, dictionary.score(guess, dictionary.length() / 2));
+    }
+
+    @Benchmark
+    public int suggestFirst() {
+        return _solver.suggest(_first);
+    }
+
+    @Benchmark
+    public int suggestSecond() {
+        return _solver.suggest(_second);
+    }
+}
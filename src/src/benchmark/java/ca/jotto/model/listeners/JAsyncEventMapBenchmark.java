@@ -0,0 +1,61 @@
+package ca.jotto.model.listeners;
+
+import ca.jotto.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JAsyncEventMapBenchmark {
+
+    static private final int CAPACITY = 1024;
+    static private final int LISTENER_TOKENS = 1000;
+
+    @Param({"SYNC", "BLOCK", "DROP_OLDEST", "COALESCE"})
+    public String mode;
+
+    private Jotto _jotto;
+    private JMatch _match;
+    private JottoEventMap _eventMap;
+
+    @Setup
+    public void setup() throws Exception {
+        _eventMap = mode.equals("SYNC") ? new JottoEventMap() : new JAsyncEventMap(CAPACITY, JBackpressure.valueOf(mode));
+        _jotto = new Jotto(BenchmarkHelper.dictionary(), _eventMap);
+        _match = _jotto.construct(_jotto.getDictionary().at(0));
+        _eventMap.addListener(new StateListener() {
+            @Override
+            public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+                Blackhole.consumeCPU(LISTENER_TOKENS);
+            }
+
+            @Override
+            public void onCharacterEliminated(Jotto jotto, char character) {
+                Blackhole.consumeCPU(LISTENER_TOKENS);
+            }
+
+            @Override
+            public void onCharacterExact(Jotto jotto, char character) {
+                Blackhole.consumeCPU(LISTENER_TOKENS);
+            }
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (_eventMap instanceof JAsyncEventMap) {
+            ((JAsyncEventMap) _eventMap).close();
+        }
+    }
+
+    @Benchmark
+    public void onGameStateChanged() {
+        _eventMap.onGameStateChanged(_jotto, _match, JGameState.PLAYING, JGameState.PLAYING);
+    }
+}
@@ -0,0 +1,81 @@
+package ca.jotto.model.listeners;
+
+import ca.jotto.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JottoEventMapBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    public int listeners;
+
+    private Jotto _jotto;
+    private JottoEventMap _eventMap;
+    private JGuess _guess;
+    private int _delivered;
+
+    @Setup
+    public void setup() throws Exception {
+        JDictionary dictionary = BenchmarkHelper.dictionary();
+        _jotto = new Jotto(dictionary);
+        _guess = new JSecret(dictionary.at(0)).guess(dictionary.at(1).word());
+        _eventMap = new JottoEventMap();
+
+        for (int i = 0; i < listeners; i++) {
+            if (i % 2 == 0) {
+                _eventMap.addListener(new StateListener() {
+                    @Override
+                    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+                        _delivered++;
+                    }
+
+                    @Override
+                    public void onCharacterEliminated(Jotto jotto, char character) {
+                        _delivered++;
+                    }
+
+                    @Override
+                    public void onCharacterExact(Jotto jotto, char character) {
+                        _delivered++;
+                    }
+                });
+            } else {
+                _eventMap.addListener(new TurnListener() {
+                    @Override
+                    public void onTurnIncorrect(Jotto jotto, JGuess guess) {
+                        _delivered++;
+                    }
+
+                    @Override
+                    public void onTurnCorrect(Jotto jotto, JGuess guess) {
+                        _delivered++;
+                    }
+
+                    @Override
+                    public void onTurnGuess(Jotto jotto, JGuess guess) {
+                        _delivered++;
+                    }
+                });
+            }
+        }
+    }
+
+    @Benchmark
+    public int onCharacterExact() {
+        _eventMap.onCharacterExact(_jotto, 'A');
+        return _delivered;
+    }
+
+    @Benchmark
+    public int onTurnGuess() {
+        _eventMap.onTurnGuess(_jotto, _guess);
+        return _delivered;
+    }
+}
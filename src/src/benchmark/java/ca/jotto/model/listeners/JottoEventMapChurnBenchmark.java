@@ -0,0 +1,76 @@
+package ca.jotto.model.listeners;
+
+import ca.jotto.model.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JottoEventMapChurnBenchmark {
+
+    @Param({"10", "100"})
+    public int listeners;
+
+    private Jotto _jotto;
+    private JottoEventMap _eventMap;
+
+    @Setup
+    public void setup() throws Exception {
+        _jotto = new Jotto(BenchmarkHelper.dictionary());
+        _eventMap = new JottoEventMap();
+        for (int i = 0; i < listeners; i++) {
+            _eventMap.addListener(new Spectator());
+        }
+    }
+
+    /**
+     * A listener that joins and leaves the event map of its thread's group, and holds no shared state so that the
+     * dispatching threads contend only on the event map.
+     */
+    @State(Scope.Thread)
+    public static class Spectator implements StateListener {
+
+        @Override
+        public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+            Blackhole.consumeCPU(1);
+        }
+
+        @Override
+        public void onCharacterEliminated(Jotto jotto, char character) {
+            Blackhole.consumeCPU(1);
+        }
+
+        @Override
+        public void onCharacterExact(Jotto jotto, char character) {
+            Blackhole.consumeCPU(1);
+        }
+    }
+
+    @Benchmark
+    @Group("quiet")
+    @GroupThreads(16)
+    public void quietDispatch() {
+        _eventMap.onCharacterExact(_jotto, 'A');
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(16)
+    public void churnDispatch() {
+        _eventMap.onCharacterExact(_jotto, 'A');
+    }
+
+    @Benchmark
+    @Group("churn")
+    @GroupThreads(4)
+    public void churnJoin(Spectator spectator) {
+        _eventMap.addListener(spectator);
+        _eventMap.removeListener(spectator);
+    }
+}
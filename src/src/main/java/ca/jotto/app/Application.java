@@ -12,18 +12,22 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 /**
  * The core application that makes use of the Guessboard/Letterboard views to
  * implement a Jotto GUI.
+ * <p>
+ * The variant is read from the arguments as [WORDS [SIZE [CHARSET]]], where
+ * CHARSET is either "uppercase" or "lowercase"; any argument that is omitted
+ * falls back to the word list and variant of {@link JVariant#DEFAULT}.
  */
 public class Application extends JFrame implements GameListener {
 
-    private static final int JOTTO_DEFAULT_SIZE = 5;
     private static final String JOTTO_WORD_FILE = "resources/words.txt";
+    private final JDictionaryRegistry registry = new JDictionaryRegistry();
     private final ButtonGroup btgDifficulty = new ButtonGroup();
     private Jotto jotto;
     private JMatch match;
@@ -42,13 +46,19 @@ public class Application extends JFrame implements GameListener {
 
 
     public Application() throws IOException {
-        dictionary = readDictionary(JOTTO_WORD_FILE);
-        if (dictionary == null) {
-            System.err.println("Could not read the file " + JOTTO_WORD_FILE);
+        this(JVariant.DEFAULT, Paths.get(JOTTO_WORD_FILE));
+    }
+
+    public Application(JVariant variant, Path words) throws IOException {
+        variant = registry.register(variant, words);
+        try {
+            jotto = new Jotto(registry, variant);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.err.println("Could not read the file " + words);
             System.exit(1);
         }
-
-        jotto = new Jotto(dictionary);
+        dictionary = jotto.getDictionary();
         difficulty = JDifficulty.Normal;
 
         setTitle("Jotto Application");
@@ -124,10 +134,10 @@ public class Application extends JFrame implements GameListener {
         pnlLabels.add(lblWords);
         pnlLabels.add(lblVars);
 
-        gboard = new Guessboard();
+        gboard = new Guessboard(variant.size());
         pnlHistory.add(gboard, BorderLayout.CENTER);
 
-        Letters letters = new Letters(JCharset.DEFAULT);
+        Letters letters = new Letters(jotto.getCharset());
         lboard = new Letterboard(letters);
         contentPane.add(lboard, BorderLayout.SOUTH);
 
@@ -179,11 +189,12 @@ public class Application extends JFrame implements GameListener {
         setComponents(pnlMain, false);
     }
 
-    public static void main(String[] args) {
+    public static void main(final String[] args) {
         EventQueue.invokeLater(new Runnable() {
             public void run() {
                 try {
-                    Application frame = new Application();
+                    Path words = Paths.get(args.length > 0 ? args[0] : JOTTO_WORD_FILE);
+                    Application frame = new Application(variant(args), words);
                     frame.setVisible(true);
                 } catch (Exception e) {
                     e.printStackTrace();
@@ -192,26 +203,26 @@ public class Application extends JFrame implements GameListener {
         });
     }
 
-    public JDictionary readDictionary(String filepath) {
-        File file = new File(filepath);
-        FileInputStream fis = null;
-        JDictionary dictionary = null;
+    /**
+     * Reads the variant from the SIZE and CHARSET arguments, defaulting to {@link JVariant#DEFAULT}.
+     */
+    private static JVariant variant(String[] args) {
+        int size = args.length > 1 ? Integer.parseInt(args[1]) : JVariant.DEFAULT_SIZE;
+        if (size <= 0) {
+            throw new IllegalArgumentException("The word size must be greater than zero.");
+        }
 
-        try {
-            fis = new FileInputStream(file);
-            dictionary = JDictionary.fromStream(JCharset.DEFAULT, fis);
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            try {
-                if (fis != null)
-                    fis.close();
-            } catch (IOException ex) {
-                ex.printStackTrace();
+        JCharset charset = JVariant.DEFAULT.getCharset();
+        if (args.length > 2) {
+            if (args[2].equalsIgnoreCase("uppercase")) {
+                charset = JCharset.UPPERCASE;
+            } else if (args[2].equalsIgnoreCase("lowercase")) {
+                charset = JCharset.LOWERCASE;
+            } else {
+                throw new IllegalArgumentException("The character set '" + args[2] + "' is not known.");
             }
         }
-
-        return dictionary;
+        return new JVariant(charset, size);
     }
 
     private void reset() {
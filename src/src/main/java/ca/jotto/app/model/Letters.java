@@ -1,15 +1,16 @@
 package ca.jotto.app.model;
 
 import ca.jotto.model.JCharset;
-import ca.jotto.model.JGameState;
+import ca.jotto.model.JLetterDelta;
 import ca.jotto.model.JLetterStatus;
+import ca.jotto.model.JMatch;
 import ca.jotto.model.Jotto;
-import ca.jotto.model.listeners.StateListener;
+import ca.jotto.model.listeners.LetterListener;
 
 /**
  * Represents the letters of the board.
  */
-public class Letters implements StateListener {
+public class Letters implements LetterListener {
 
     public JCharset Characters;
     public JLetterStatus[] Matches;
@@ -23,19 +24,9 @@ public class Letters implements StateListener {
     }
 
     @Override
-    public void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState) {
-
-    }
-
-    @Override
-    public void onCharacterEliminated(Jotto jotto, char character) {
-        int index = Characters.get(character);
-        Matches[index] = JLetterStatus.ELIMINATED;
-    }
-
-    @Override
-    public void onCharacterExact(Jotto jotto, char character) {
-        int index = Characters.get(character);
-        Matches[index] = JLetterStatus.DISCOVERED;
+    public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+        for (int i = delta.next(0); i >= 0; i = delta.next(i + 1)) {
+            Matches[i] = delta.status(i);
+        }
     }
 }
@@ -8,6 +8,7 @@ import javax.swing.*;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
+import java.util.Arrays;
 
 /**
  * Acts as a visual board for displaying the history of guesses in the jotto
@@ -16,17 +17,22 @@ import java.awt.*;
 public class Guessboard extends JPanel implements TurnListener {
 
     private JTable _table;
+    private int _size;
 
     /**
      * Create the panel.
+     *
+     * @param size The length of the words of the game.
      */
-    public Guessboard() {
+    public Guessboard(int size) {
+        _size = size;
         setLayout(new GridLayout(0, 1, 0, 0));
 
         _table = new JTable();
 
-        DefaultTableModel model = new DefaultTableModel(new Object[][]{},
-                new String[]{"", "", "", "", "", "", ""});
+        String[] columns = new String[size + 2];
+        Arrays.fill(columns, "");
+        DefaultTableModel model = new DefaultTableModel(new Object[][]{}, columns);
         _table.setModel(model);
 
         DefaultTableCellRenderer characterRenderer = new DefaultTableCellRenderer();
@@ -47,7 +53,7 @@ public class Guessboard extends JPanel implements TurnListener {
     @Override
     public void onTurnGuess(Jotto jotto, JGuess guess) {
         DefaultTableModel model = (DefaultTableModel) _table.getModel();
-        Object[] objs = new Object[7];
+        Object[] objs = new Object[_size + 2];
 
         for (int i = 0; i < guess.size(); i++) {
             objs[i] = new Character(guess.charAt(i));
@@ -1,10 +1,11 @@
 package ca.jotto.app.views;
 
 import ca.jotto.app.model.Letters;
-import ca.jotto.model.JGameState;
+import ca.jotto.model.JLetterDelta;
 import ca.jotto.model.JLetterStatus;
+import ca.jotto.model.JMatch;
 import ca.jotto.model.Jotto;
-import ca.jotto.model.listeners.StateListener;
+import ca.jotto.model.listeners.LetterListener;
 
 import javax.swing.*;
 import javax.swing.border.LineBorder;
@@ -13,12 +14,13 @@ import java.awt.*;
 /**
  * Acts as a visual board displaying which letters have been verified (or partially verified)
  */
-public class Letterboard extends JPanel implements StateListener {
+public class Letterboard extends JPanel implements LetterListener {
 
     private static final long serialVersionUID = 1L;
 
     private final Color _clrEliminated = new Color(232, 10, 28);
     private final Color _clrExact = new Color(42, 185, 7);
+    private final Color _clrPresent = new Color(232, 178, 10);
     private final JLabel[] _lblCharacters;
     private final Letters _letters;
     private int _rows;
@@ -56,30 +58,31 @@ public class Letterboard extends JPanel implements StateListener {
 
     public void sync() {
         for (int i = 0; i < _lblCharacters.length; i++) {
-            JLetterStatus match = _letters.Matches[i];
-            switch (match) {
-                case NONE:
-                    _lblCharacters[i].setBackground(null);
-                    break;
-                case DISCOVERED:
-                    _lblCharacters[i].setBackground(_clrExact);
-                    break;
-                case ELIMINATED:
-                    _lblCharacters[i].setBackground(_clrEliminated);
-                    break;
-            }
-
+            sync(i);
         }
     }
 
-    public void onCharacterEliminated(Jotto jotto, char character) {
-        sync();
-    }
-
-    public void onCharacterExact(Jotto jotto, char character) {
-        sync();
+    private void sync(int i) {
+        JLetterStatus match = _letters.Matches[i];
+        switch (match) {
+            case NONE:
+                _lblCharacters[i].setBackground(null);
+                break;
+            case PRESENT:
+                _lblCharacters[i].setBackground(_clrPresent);
+                break;
+            case DISCOVERED:
+                _lblCharacters[i].setBackground(_clrExact);
+                break;
+            case ELIMINATED:
+                _lblCharacters[i].setBackground(_clrEliminated);
+                break;
+        }
     }
 
-    public void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState) {
+    public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+        for (int i = delta.next(0); i >= 0; i = delta.next(i + 1)) {
+            sync(i);
+        }
     }
 }
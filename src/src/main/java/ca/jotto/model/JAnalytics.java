@@ -2,6 +2,8 @@ package ca.jotto.model;
 
 import ca.jotto.model.listeners.JottoEventMap;
 
+import java.util.Arrays;
+
 /**
  * Provides various capabilities related to historical analytics.
  */
@@ -11,6 +13,11 @@ public final class JAnalytics {
     private final char[] _known;
     private final int _size;
     private final JCharset _charset;
+    private final JDeduction _deduction;
+    private final long[] _eliminated;
+    private final long[] _present;
+    private final long[] _discovered;
+    private int _processed;
 
     /**
      * Initializes the analytics object for the match.
@@ -28,6 +35,10 @@ public final class JAnalytics {
         _known = new char[size];
         _letters = new JLetterStatus[characters];
         _charset = charset;
+        _deduction = characters <= Long.SIZE ? new JDeduction(charset, size) : null;
+        _eliminated = new long[(characters + Long.SIZE - 1) / Long.SIZE];
+        _present = new long[_eliminated.length];
+        _discovered = new long[_eliminated.length];
 
         for (int i = 0; i < _known.length; i++) {
             _known[i] = Character.UNASSIGNED;
@@ -40,38 +51,188 @@ public final class JAnalytics {
 
     /**
      * Computes the historical analytics based on the latest changes to the history.
+     * <p>
+     * Only the guesses added to the history since the last update are processed, so the history must be the one
+     * whose guesses were previously given to the analytics, in order.
      *
-     * @param jotto    The jotto game.
+     * @param match    The match of the analytics.
      * @param eventMap The event map for the match.
      * @param history  The history of guesses.
      */
-    public void compute(Jotto jotto, JottoEventMap eventMap, JHistory history) {
-        assert jotto != null : "The provided Jotto 'jotto' cannot be null";
+    public void compute(JMatch match, JottoEventMap eventMap, JHistory history) {
+        assert match != null : "The provided JMatch 'match' cannot be null";
         assert eventMap != null : "The provided JottoEventMap 'eventMap' cannot be null";
         assert history != null : "The provided JHistory 'history' cannot be null";
 
-        for (JGuess ges : history.guesses()) {
-            if (ges.partial() == 0 && ges.exact() == 0) {
-                for (int l = 0; l < _size; l++) {
-                    Character ch = ges.charAt(l);
-                    int index = _charset.get(ch);
-                    _letters[index] = JLetterStatus.NONE;
+        for (int i = _processed; i < history.length(); i++) {
+            update(match, eventMap, history.get(i));
+        }
+    }
 
-                    eventMap.onCharacterEliminated(jotto, ch);
-                }
-            } else {
-                for (int l = 0; l < _size; l++) {
-                    if (ges.matchAt(l) == JWordMatch.EXACT) {
-                        char exactChar = ges.charAt(l);
-                        int index = _charset.get(exactChar);
+    /**
+     * Updates the historical analytics with a single guess, firing an event only if the status of letters changed.
+     *
+     * @param match    The match of the analytics.
+     * @param eventMap The event map for the match.
+     * @param guess    The latest guess.
+     */
+    public void update(JMatch match, JottoEventMap eventMap, JGuess guess) {
+        update(match, eventMap, guess, null);
+    }
+
+    /**
+     * Updates the historical analytics with a single guess, firing an event only if the status of letters changed.
+     * <p>
+     * The letters are deduced from every guess so far, and cross-checked against the remaining candidate secrets
+     * when they are given. The letters that changed are fired together as a single {@link JLetterDelta}.
+     *
+     * @param match      The match of the analytics.
+     * @param eventMap   The event map for the match.
+     * @param guess      The latest guess.
+     * @param candidates The candidate secrets remaining after the guess, or null.
+     */
+    public void update(JMatch match, JottoEventMap eventMap, JGuess guess, JCandidateSet candidates) {
+        assert match != null : "The provided JMatch 'match' cannot be null";
+        assert eventMap != null : "The provided JottoEventMap 'eventMap' cannot be null";
+        assert guess != null : "The provided JGuess 'guess' cannot be null";
+        assert guess.size() == _size : "The provided JGuess 'guess' is not of the analytics word size";
+
+        _processed++;
+
+        if (_deduction == null) {
+            observe(guess);
+        } else {
+            deduce(guess, candidates);
+        }
+
+        JLetterDelta delta = delta();
+        if (delta != null) {
+            eventMap.onLettersChanged(match.getGame(), match, delta);
+        }
+    }
+
+    /**
+     * Updates the letters from the deduction over every guess so far.
+     */
+    private void deduce(JGuess guess, JCandidateSet candidates) {
+        _deduction.add(guess);
+        if (candidates != null) {
+            _deduction.intersect(candidates);
+        }
+
+        for (int i = 0; i < _letters.length; i++) {
+            if (_letters[i] != JLetterStatus.NONE) {
+                continue;
+            }
+
+            char ch = _charset.at(i);
+            if (_deduction.isEliminated(ch)) {
+                _letters[i] = JLetterStatus.ELIMINATED;
+                _eliminated[0] |= 1L << i;
+            } else if (_deduction.isPresent(ch)) {
+                _letters[i] = JLetterStatus.PRESENT;
+                _present[0] |= 1L << i;
+            }
+        }
+
+        for (int l = 0; l < _size; l++) {
+            char exactChar = _deduction.known(l);
+            if (exactChar != Character.UNASSIGNED && _known[l] != exactChar) {
+                int index = _charset.get(exactChar);
+                _known[l] = exactChar;
+                _letters[index] = JLetterStatus.DISCOVERED;
+                _present[0] &= ~(1L << index);
+                _discovered[0] |= 1L << index;
+            }
+        }
+    }
 
+    /**
+     * Updates the letters from the exact and eliminated letters of a single guess.
+     */
+    private void observe(JGuess guess) {
+        if (guess.partial() == 0 && guess.exact() == 0) {
+            for (int l = 0; l < _size; l++) {
+                int index = _charset.get(guess.charAt(l));
+                if (_letters[index] == JLetterStatus.NONE) {
+                    _letters[index] = JLetterStatus.ELIMINATED;
+                    _eliminated[index >>> 6] |= 1L << index;
+                }
+            }
+        } else if (guess.exact() > 0) {
+            for (int l = 0; l < _size; l++) {
+                if (guess.matchAt(l) == JWordMatch.EXACT) {
+                    char exactChar = guess.charAt(l);
+                    int index = _charset.get(exactChar);
+                    if (_letters[index] != JLetterStatus.DISCOVERED || _known[l] != exactChar) {
                         _letters[index] = JLetterStatus.DISCOVERED;
                         _known[l] = exactChar;
-
-                        eventMap.onCharacterExact(jotto, exactChar);
+                        _discovered[index >>> 6] |= 1L << index;
                     }
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns the letters changed since the last delta and clears them, or null if no letter changed.
+     */
+    private JLetterDelta delta() {
+        boolean changed = false;
+        for (int i = 0; i < _eliminated.length; i++) {
+            changed |= (_eliminated[i] | _present[i] | _discovered[i]) != 0;
+        }
+        if (!changed) {
+            return null;
+        }
+
+        JLetterDelta delta = new JLetterDelta(_charset, _eliminated.clone(), _present.clone(), _discovered.clone());
+        Arrays.fill(_eliminated, 0);
+        Arrays.fill(_present, 0);
+        Arrays.fill(_discovered, 0);
+        return delta;
+    }
+
+    /**
+     * Returns the status of a letter.
+     *
+     * @param letter The letter of the character set.
+     * @return The known status of the letter.
+     */
+    public JLetterStatus status(char letter) {
+        assert _charset.contains(letter) : "The provided Character 'letter' is not within the character set";
+
+        return _letters[_charset.get(letter)];
+    }
+
+    /**
+     * Returns the letter known to be at a position of the secret.
+     *
+     * @param index The position within the secret.
+     * @return The letter at the position, or {@link Character#UNASSIGNED} if it is not known.
+     */
+    public char known(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+        assert index < _size : "The provided Integer 'index' exceeds the word size";
+
+        return _known[index];
+    }
+
+    /**
+     * Returns the letters deduced from the guesses so far.
+     *
+     * @return The deduction of the match, or null if the character set is too large to deduce over.
+     */
+    public JDeduction deduction() {
+        return _deduction;
+    }
+
+    /**
+     * Returns the number of guesses the analytics has processed.
+     *
+     * @return The number of processed guesses.
+     */
+    public int processed() {
+        return _processed;
+    }
+}
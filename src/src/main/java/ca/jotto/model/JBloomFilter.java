@@ -0,0 +1,190 @@
+package ca.jotto.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a Bloom filter over the words of a {@link JDictionary}, which rejects most strings that are not words
+ * before they are looked up.
+ * <p>
+ * Each word is hashed once to 64 bits from its character set indices, and the bit positions are derived from the two
+ * halves of the hash by double hashing. The number of bits and hashes are chosen from the word count and the
+ * requested false-positive rate; at one percent the filter takes under ten bits per word, so the filter of a typical
+ * dictionary fits within the first level cache. A string with a character outside of the character set, or of another
+ * length, is rejected without hashing.
+ * <p>
+ * The filter counts the strings it was queried with, the strings it rejected, and the false positives that the
+ * dictionary reported after an exact lookup failed.
+ */
+public final class JBloomFilter {
+
+    private final JCharset _charset;
+    private final int _size;
+    private final long[] _bits;
+    private final int _hashes;
+    private final double _falsePositiveRate;
+    private final LongAdder _queries;
+    private final LongAdder _rejected;
+    private final LongAdder _falsePositives;
+
+    private JBloomFilter(JCharset charset, int size, int bits, int hashes, double falsePositiveRate) {
+        _charset = charset;
+        _size = size;
+        _bits = new long[(bits + Long.SIZE - 1) / Long.SIZE];
+        _hashes = hashes;
+        _falsePositiveRate = falsePositiveRate;
+        _queries = new LongAdder();
+        _rejected = new LongAdder();
+        _falsePositives = new LongAdder();
+    }
+
+    /**
+     * Builds a Bloom filter over the words of a dictionary.
+     *
+     * @param dictionary        The dictionary to filter.
+     * @param falsePositiveRate The expected rate at which strings that are not words pass the filter.
+     * @return The Bloom filter of the dictionary.
+     */
+    static public JBloomFilter build(JDictionary dictionary, double falsePositiveRate) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert falsePositiveRate > 0 && falsePositiveRate < 1 : "The provided Double 'falsePositiveRate' must be between zero and one";
+
+        int length = Math.max(dictionary.length(), 1);
+        double bits = Math.ceil(-length * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int hashes = Math.max(1, (int) Math.round(bits / length * Math.log(2)));
+        assert bits <= Integer.MAX_VALUE - Long.SIZE : "The provided Double 'falsePositiveRate' requires too many bits";
+
+        int size = dictionary.size();
+        JBloomFilter filter = new JBloomFilter(dictionary.getCharset(), size, (int) bits, hashes, falsePositiveRate);
+        byte[] letters = dictionary.letters();
+        for (int i = 0; i < dictionary.length(); i++) {
+            long hash = 0xcbf29ce484222325L;
+            for (int l = 0; l < size; l++) {
+                hash = (hash ^ (letters[i * size + l] & 0xFF)) * 0x100000001b3L;
+            }
+            filter.add(mix(hash));
+        }
+        return filter;
+    }
+
+    /**
+     * Determines whether a string may be a word of the dictionary.
+     *
+     * @param word The string to test.
+     * @return false if the string is certainly not a word; true if it may be a word.
+     */
+    public boolean mightContain(CharSequence word) {
+        assert word != null : "The provided CharSequence 'word' cannot be null";
+
+        _queries.increment();
+        if (word.length() != _size) {
+            _rejected.increment();
+            return false;
+        }
+
+        long hash = 0xcbf29ce484222325L;
+        for (int l = 0; l < _size; l++) {
+            int letter = _charset.get(word.charAt(l));
+            if (letter == -1) {
+                _rejected.increment();
+                return false;
+            }
+            hash = (hash ^ letter) * 0x100000001b3L;
+        }
+
+        hash = mix(hash);
+        long bits = (long) _bits.length * Long.SIZE;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < _hashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+            if ((_bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                _rejected.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that a string passed the filter but was not found in the dictionary.
+     */
+    void falsePositive() {
+        _falsePositives.increment();
+    }
+
+    /**
+     * Returns the false-positive rate the filter was built for.
+     *
+     * @return The expected rate at which strings that are not words pass the filter.
+     */
+    public double falsePositiveRate() {
+        return _falsePositiveRate;
+    }
+
+    /**
+     * Returns the number of bits of the filter.
+     *
+     * @return The size of the filter in bits.
+     */
+    public long bits() {
+        return (long) _bits.length * Long.SIZE;
+    }
+
+    /**
+     * Returns the number of bits tested for each string.
+     *
+     * @return The number of hash functions.
+     */
+    public int hashes() {
+        return _hashes;
+    }
+
+    /**
+     * Returns the number of strings the filter was queried with.
+     *
+     * @return The number of queries.
+     */
+    public long queries() {
+        return _queries.sum();
+    }
+
+    /**
+     * Returns the number of strings the filter rejected.
+     *
+     * @return The number of strings that are certainly not words.
+     */
+    public long rejected() {
+        return _rejected.sum();
+    }
+
+    /**
+     * Returns the number of strings that passed the filter but were not words.
+     *
+     * @return The number of false positives reported by the dictionary.
+     */
+    public long falsePositives() {
+        return _falsePositives.sum();
+    }
+
+    /**
+     * Sets the bits of a word.
+     */
+    private void add(long hash) {
+        long bits = (long) _bits.length * Long.SIZE;
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < _hashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % bits;
+            _bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    /**
+     * Mixes the bits of a hash with the SplitMix64 finalizer.
+     */
+    static private long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
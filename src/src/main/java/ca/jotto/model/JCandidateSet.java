@@ -0,0 +1,265 @@
+package ca.jotto.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents the words of a {@link JDictionary} that are still consistent with the guesses of a match.
+ * <p>
+ * The set is a bitset over the word indices of the dictionary, narrowed one guess at a time.
+ */
+public final class JCandidateSet {
+
+    private final JDictionary _dictionary;
+    private final long[] _bits;
+    private int _cardinality;
+
+    /**
+     * Initializes a new instance of the {@link JCandidateSet} class that contains every word of the dictionary.
+     *
+     * @param dictionary The dictionary of the candidate words.
+     */
+    public JCandidateSet(JDictionary dictionary) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+
+        int length = dictionary.length();
+
+        _dictionary = dictionary;
+        _bits = new long[(length + Long.SIZE - 1) / Long.SIZE];
+        _cardinality = length;
+
+        for (int i = 0; i < length / Long.SIZE; i++) {
+            _bits[i] = -1L;
+        }
+        if (length % Long.SIZE != 0) {
+            _bits[_bits.length - 1] = (1L << length) - 1;
+        }
+    }
+
+    /**
+     * Initializes a new instance of the {@link JCandidateSet} class that contains the words of a difficulty.
+     *
+     * @param dictionary The dictionary of the candidate words.
+     * @param difficulty The difficulty of the candidate words.
+     */
+    public JCandidateSet(JDictionary dictionary, int difficulty) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert difficulty >= 0 : "The provided Integer 'difficulty' cannot less than zero";
+
+        int length = dictionary.length();
+
+        _dictionary = dictionary;
+        _bits = new long[(length + Long.SIZE - 1) / Long.SIZE];
+
+        int cardinality = 0;
+        for (int i = 0; i < length; i++) {
+            if (dictionary.difficulty(i) == difficulty) {
+                _bits[i >>> 6] |= 1L << i;
+                cardinality++;
+            }
+        }
+        _cardinality = cardinality;
+    }
+
+    /**
+     * Initializes a new instance of the {@link JCandidateSet} class as a copy of another set.
+     *
+     * @param candidates The set to copy.
+     */
+    public JCandidateSet(JCandidateSet candidates) {
+        assert candidates != null : "The provided JCandidateSet 'candidates' cannot be null";
+
+        _dictionary = candidates._dictionary;
+        _bits = candidates._bits.clone();
+        _cardinality = candidates._cardinality;
+    }
+
+    /**
+     * Returns the dictionary of the candidate words.
+     *
+     * @return The dictionary that the indices of the set refer to.
+     */
+    public JDictionary getDictionary() {
+        return _dictionary;
+    }
+
+    /**
+     * Returns the number of candidate words.
+     *
+     * @return The number of words in the set.
+     */
+    public int cardinality() {
+        return _cardinality;
+    }
+
+    /**
+     * Determines whether there are no candidate words left.
+     *
+     * @return true if the set is empty; false otherwise.
+     */
+    public boolean isEmpty() {
+        return _cardinality == 0;
+    }
+
+    /**
+     * Determines whether the word at the specified index is a candidate.
+     *
+     * @param index The index of the word.
+     * @return true if the word is in the set; false otherwise.
+     */
+    public boolean contains(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+        assert index < _dictionary.length() : "The provided Integer 'index' exceeds the word count";
+
+        return (_bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Returns the index of the first candidate word at or after the specified index.
+     *
+     * @param from The index to start searching from.
+     * @return The index of the next candidate word, or -1 if there is none.
+     */
+    public int next(int from) {
+        assert from >= 0 : "The provided Integer 'from' cannot be less than zero";
+
+        int word = from >>> 6;
+        if (word >= _bits.length) {
+            return -1;
+        }
+
+        long bits = _bits[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == _bits.length) {
+                return -1;
+            }
+            bits = _bits[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Copies the indices of the candidate words to a new array, in ascending order.
+     *
+     * @return The indices of the words in the set.
+     */
+    public int[] toArray() {
+        int[] indices = new int[_cardinality];
+        int count = 0;
+        for (int word = 0; word < _bits.length; word++) {
+            long bits = _bits[word];
+            while (bits != 0) {
+                indices[count++] = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Removes the words that would not have produced the packed score for the guess at the specified index.
+     *
+     * @param guess    The index of the guessed word.
+     * @param feedback The packed {@link JFeedback} score of the guess.
+     */
+    public void narrow(int guess, int feedback) {
+        assert guess >= 0 && guess < _dictionary.length() : "The provided Integer 'guess' is outside of the dictionary";
+
+        int cardinality = 0;
+        for (int word = 0; word < _bits.length; word++) {
+            long bits = _bits[word];
+            long kept = bits;
+            while (bits != 0) {
+                int secret = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if (_dictionary.score(guess, secret) != feedback) {
+                    kept &= ~(1L << secret);
+                }
+                bits &= bits - 1;
+            }
+            _bits[word] = kept;
+            cardinality += Long.bitCount(kept);
+        }
+        _cardinality = cardinality;
+    }
+
+    /**
+     * Removes the words that would not have produced the score of a guess.
+     *
+     * @param guess The guess of the match.
+     */
+    public void narrow(JGuess guess) {
+        assert guess != null : "The provided JGuess 'guess' cannot be null";
+        assert guess.size() == _dictionary.size() : "The provided JGuess 'guess' is not of the dictionary word size";
+
+        int feedback = JFeedback.pack(guess.exact(), guess.partial());
+        int index = _dictionary.indexOf(guess.guess());
+        if (index != -1) {
+            narrow(index, feedback);
+            return;
+        }
+
+        int cardinality = 0;
+        for (int word = 0; word < _bits.length; word++) {
+            long bits = _bits[word];
+            long kept = bits;
+            while (bits != 0) {
+                int secret = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                if (JFeedback.score(guess.guess(), _dictionary.word(secret)) != feedback) {
+                    kept &= ~(1L << secret);
+                }
+                bits &= bits - 1;
+            }
+            _bits[word] = kept;
+            cardinality += Long.bitCount(kept);
+        }
+        _cardinality = cardinality;
+    }
+
+    /**
+     * Removes the words that would not have produced the scores of every guess in a history.
+     *
+     * @param history The history of the match.
+     */
+    public void narrow(JHistory history) {
+        assert history != null : "The provided JHistory 'history' cannot be null";
+
+        for (int i = 0; i < history.length(); i++) {
+            narrow(history.get(i));
+        }
+    }
+
+    /**
+     * Removes the words that are not also within another set.
+     *
+     * @param candidates The set to intersect with.
+     */
+    public void intersect(JCandidateSet candidates) {
+        assert candidates != null : "The provided JCandidateSet 'candidates' cannot be null";
+        assert candidates._dictionary == _dictionary : "The provided JCandidateSet 'candidates' is of another dictionary";
+
+        int cardinality = 0;
+        for (int word = 0; word < _bits.length; word++) {
+            _bits[word] &= candidates._bits[word];
+            cardinality += Long.bitCount(_bits[word]);
+        }
+        _cardinality = cardinality;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JCandidateSet)) {
+            return false;
+        }
+
+        JCandidateSet other = (JCandidateSet) o;
+        return _dictionary == other._dictionary && _cardinality == other._cardinality
+                && Arrays.equals(_bits, other._bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(_bits);
+    }
+}
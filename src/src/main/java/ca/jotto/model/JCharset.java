@@ -1,7 +1,12 @@
 package ca.jotto.model;
 
+import java.util.Arrays;
+
 /**
  * Represents a set of character values.
+ * <p>
+ * The index of each character is held in a table spanning the range from the lowest to the highest character of the
+ * set, so that looking up a character is a bounds check and an array read.
  */
 public class JCharset {
 
@@ -21,6 +26,8 @@ public class JCharset {
     static public final JCharset DEFAULT = UPPERCASE;
 
     private final char[] _charset;
+    private final int[] _indices;
+    private final char _offset;
 
     /**
      * Creates a character set from a range between two characters.
@@ -31,7 +38,22 @@ public class JCharset {
         assert characters != null : "The provided array 'characters' cannot be null";
         assert characters.length != 0 : "The provided array 'characters' cannot be empty";
 
-        _charset = characters;
+        char lowest = characters[0];
+        char highest = characters[0];
+        for (char character : characters) {
+            lowest = character < lowest ? character : lowest;
+            highest = character > highest ? character : highest;
+        }
+
+        int[] indices = new int[highest - lowest + 1];
+        Arrays.fill(indices, -1);
+        for (int i = characters.length - 1; i >= 0; i--) {
+            indices[characters[i] - lowest] = i;
+        }
+
+        _charset = characters.clone();
+        _indices = indices;
+        _offset = lowest;
     }
 
     /**
@@ -50,13 +72,8 @@ public class JCharset {
      * @return Returns the index of the character.
      */
     public int get(char character) {
-        for (int i = 0; i < _charset.length; i++) {
-            if (character == _charset[i]) {
-                return i;
-            }
-        }
-
-        return -1;
+        int offset = character - _offset;
+        return offset >= 0 && offset < _indices.length ? _indices[offset] : -1;
     }
 
     /**
@@ -92,11 +109,62 @@ public class JCharset {
         assert word != null : "The provided String 'word' cannot be null";
         assert !word.isEmpty() : "The provided String 'word' does not contain characters";
 
-        for (char wch : word.toCharArray()) {
-            if (!contains(wch)) {
+        for (int i = 0; i < word.length(); i++) {
+            if (get(word.charAt(i)) == -1) {
                 return false;
             }
         }
         return true;
     }
+
+    /**
+     * Encodes the characters of a word as their indices within the set.
+     *
+     * @param word    The word to encode.
+     * @param indices The array to write the index of each character to, from index zero.
+     * @return true if every character is within the set; false otherwise.
+     */
+    public boolean encode(CharSequence word, byte[] indices) {
+        return encode(word, indices, 0);
+    }
+
+    /**
+     * Encodes the characters of a word as their indices within the set.
+     *
+     * @param word    The word to encode.
+     * @param indices The array to write the index of each character to.
+     * @param offset  The position in the array of the index of the first character.
+     * @return true if every character is within the set; false otherwise.
+     */
+    public boolean encode(CharSequence word, byte[] indices, int offset) {
+        assert word != null : "The provided CharSequence 'word' cannot be null";
+        assert indices != null : "The provided array 'indices' cannot be null";
+        assert offset >= 0 && offset + word.length() <= indices.length : "The provided array 'indices' is too small for the word";
+        assert _charset.length <= 256 : "The character set exceeds the range of a byte index";
+
+        boolean valid = true;
+        for (int i = 0; i < word.length(); i++) {
+            int index = get(word.charAt(i));
+            valid &= index != -1;
+            indices[offset + i] = (byte) index;
+        }
+        return valid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || o.getClass() != getClass()) {
+            return false;
+        }
+
+        return Arrays.equals(_charset, ((JCharset) o)._charset);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(_charset);
+    }
 }
@@ -0,0 +1,238 @@
+package ca.jotto.model;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Provides the compiled binary form of a {@link JDictionary}, which loads without parsing text.
+ * <p>
+ * A compiled dictionary is written in big-endian order as:
+ * <pre>
+ * int   magic        'JDIC'
+ * int   version      {@link #VERSION}
+ * int   size         length of each word
+ * int   count        number of words
+ * int   characters   number of characters in the character set
+ * char  charset[characters]
+ * byte  letters[count * size]   character set index of each letter, word after word
+ * byte  difficulty[count]       difficulty of each word
+ * </pre>
+ * followed by the {@link JPerfectHash} of the words. A dictionary of version 1, without the perfect hash, is still
+ * read and searches its sorted words instead.
+ */
+public final class JCompiledDictionary {
+
+    /**
+     * The version of the compiled dictionary format.
+     */
+    static public final int VERSION = 2;
+
+    static private final int MAGIC = 0x4A444943;
+
+    private JCompiledDictionary() {
+    }
+
+    /**
+     * Compiles a text dictionary of WORD DIFFICULTY lines into the binary form.
+     *
+     * @param charset      The character set for the words.
+     * @param inputStream  The input stream containing the text dictionary.
+     * @param outputStream The output stream to write the compiled dictionary to.
+     * @throws IOException An error occurred while attempting to read or write the dictionary.
+     */
+    static public void compile(JCharset charset, InputStream inputStream, OutputStream outputStream) throws IOException {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+        assert inputStream != null : "The provided InputStream 'inputStream' cannot be null";
+        assert outputStream != null : "The provided OutputStream 'outputStream' cannot be null";
+
+        write(JDictionary.fromStream(charset, inputStream), outputStream);
+    }
+
+    /**
+     * Writes a dictionary in the binary form.
+     *
+     * @param dictionary   The dictionary to write.
+     * @param outputStream The output stream to write the compiled dictionary to.
+     * @throws IOException An error occurred while attempting to write the dictionary.
+     */
+    static public void write(JDictionary dictionary, OutputStream outputStream) throws IOException {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert outputStream != null : "The provided OutputStream 'outputStream' cannot be null";
+
+        JCharset charset = dictionary.getCharset();
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(dictionary.size());
+        output.writeInt(dictionary.length());
+        output.writeInt(charset.length());
+        for (int i = 0; i < charset.length(); i++) {
+            output.writeChar(charset.at(i));
+        }
+        output.write(dictionary.letters());
+        for (int i = 0; i < dictionary.length(); i++) {
+            int difficulty = dictionary.difficulty(i);
+            if (difficulty > 0xFF) {
+                throw new IllegalArgumentException(String.format("The difficulty of the word '%s' exceeds a byte.", dictionary.word(i)));
+            }
+            output.writeByte(difficulty);
+        }
+        dictionary.perfectHash().write(output, dictionary);
+        output.flush();
+    }
+
+    /**
+     * Reads a compiled dictionary from the remaining bytes of a buffer.
+     *
+     * @param buffer The buffer containing the compiled dictionary.
+     * @return The dictionary that has been read from the buffer.
+     * @throws IOException The buffer does not contain a valid compiled dictionary.
+     */
+    static public JDictionary read(ByteBuffer buffer) throws IOException {
+        return read(buffer, null);
+    }
+
+    /**
+     * Reads a compiled dictionary from the remaining bytes of a buffer, sharing a character set of the same characters.
+     *
+     * @param buffer  The buffer containing the compiled dictionary.
+     * @param charset The character set to use if the dictionary has the same characters, or null.
+     * @return The dictionary that has been read from the buffer.
+     * @throws IOException The buffer does not contain a valid compiled dictionary.
+     */
+    static JDictionary read(ByteBuffer buffer, JCharset charset) throws IOException {
+        assert buffer != null : "The provided ByteBuffer 'buffer' cannot be null";
+
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        try {
+            int version = data.getInt() == MAGIC ? data.getInt() : -1;
+            if (version != 1 && version != VERSION) {
+                throw new IOException("The input is not a compiled dictionary of a supported version.");
+            }
+
+            int size = data.getInt();
+            int count = data.getInt();
+            int characters = data.getInt();
+            if (size <= 0 || count < 0 || characters <= 0 || characters > 256
+                    || (long) count * (size + 1) + 2L * characters > data.remaining()) {
+                throw new IOException("The compiled dictionary header is malformed.");
+            }
+
+            char[] letters = new char[characters];
+            for (int i = 0; i < characters; i++) {
+                letters[i] = data.getChar();
+            }
+            JCharset shared = charset(letters, charset);
+
+            byte[] indices = new byte[count * size];
+            data.get(indices);
+            int[] difficulties = new int[count];
+            for (int i = 0; i < count; i++) {
+                difficulties[i] = data.get() & 0xFF;
+            }
+
+            for (byte index : indices) {
+                if ((index & 0xFF) >= characters) {
+                    throw new IOException("The compiled dictionary refers to a character outside of the character set.");
+                }
+            }
+
+            JDictionary dictionary = new JDictionary(shared, size, indices, difficulties);
+            if (version == VERSION) {
+                dictionary.perfectHash(JPerfectHash.read(data, dictionary));
+            }
+            return dictionary;
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("The compiled dictionary is truncated.", ex);
+        }
+    }
+
+    /**
+     * Maps a compiled dictionary file into memory and reads it.
+     *
+     * @param path The path of the compiled dictionary.
+     * @return The dictionary that has been read from the file.
+     * @throws IOException An error occurred while attempting to read the file, or it is not a valid compiled dictionary.
+     */
+    static public JDictionary open(Path path) throws IOException {
+        return open(path, null);
+    }
+
+    /**
+     * Maps a compiled dictionary file into memory and reads it, sharing a character set of the same characters.
+     *
+     * @param path    The path of the compiled dictionary.
+     * @param charset The character set to use if the dictionary has the same characters, or null.
+     * @return The dictionary that has been read from the file.
+     * @throws IOException An error occurred while attempting to read the file, or it is not a valid compiled dictionary.
+     */
+    static JDictionary open(Path path, JCharset charset) throws IOException {
+        assert path != null : "The provided Path 'path' cannot be null";
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), charset);
+        }
+    }
+
+    /**
+     * Determines whether a file starts as a compiled dictionary.
+     *
+     * @param path The path of the file.
+     * @return true if the file starts with the compiled dictionary magic; false otherwise.
+     * @throws IOException An error occurred while attempting to read the file.
+     */
+    static public boolean isCompiled(Path path) throws IOException {
+        assert path != null : "The provided Path 'path' cannot be null";
+
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(path))) {
+            return input.readInt() == MAGIC;
+        } catch (EOFException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the preferred or a predefined character set with the specified characters, or a new one.
+     */
+    static private JCharset charset(char[] characters, JCharset preferred) {
+        for (JCharset charset : new JCharset[]{preferred, JCharset.UPPERCASE, JCharset.LOWERCASE}) {
+            if (charset == null) {
+                continue;
+            }
+
+            boolean same = charset.length() == characters.length;
+            for (int i = 0; same && i < characters.length; i++) {
+                same = charset.at(i) == characters[i];
+            }
+            if (same) {
+                return charset;
+            }
+        }
+        return new JCharset(characters);
+    }
+
+    /**
+     * Compiles the text dictionary in the first argument into the file in the second argument.
+     *
+     * @param args The path of the text dictionary and the path of the compiled dictionary.
+     * @throws IOException An error occurred while attempting to read or write the dictionary.
+     */
+    static public void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: JCompiledDictionary <words.txt> <words.bin>");
+            System.exit(1);
+        }
+
+        try (InputStream is = Files.newInputStream(Paths.get(args[0]));
+             OutputStream os = Files.newOutputStream(Paths.get(args[1]))) {
+            compile(JCharset.DEFAULT, is, os);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package ca.jotto.model;
+
+import java.util.Arrays;
+
+/**
+ * Represents what is known about the letters of a secret from the guesses of a match.
+ * <p>
+ * Each position of the secret holds a bitmask of the letters it may still be, indexed by the {@link JCharset}, and
+ * each partial letter of a guess adds a requirement that the letter is at one of the positions it could have been
+ * matched against. After every guess the requirements are propagated across all positions until nothing changes:
+ * a requirement with a single possible position fixes that position, and when the unplaced required letters are as
+ * many as the unknown positions, those positions can only be the required letters.
+ */
+public final class JDeduction {
+
+    private final JCharset _charset;
+    private final int _size;
+    private final long[] _possible;
+    private long[] _required;
+    private long[] _positions;
+    private int _requirements;
+    private long _present;
+    private boolean _consistent;
+
+    /**
+     * Initializes a new instance of the {@link JDeduction} class, where every position may be any letter.
+     *
+     * @param charset The character set of the secret.
+     * @param size    The length of the secret.
+     */
+    public JDeduction(JCharset charset, int size) {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+        assert charset.length() <= Long.SIZE : "The provided JCharset 'charset' exceeds the letter mask";
+        assert size > 0 && size <= Long.SIZE : "The provided Integer 'size' is outside of the position mask";
+
+        long letters = charset.length() == Long.SIZE ? -1L : (1L << charset.length()) - 1;
+
+        _charset = charset;
+        _size = size;
+        _possible = new long[size];
+        _required = new long[size];
+        _positions = new long[size];
+        _consistent = true;
+
+        for (int i = 0; i < size; i++) {
+            _possible[i] = letters;
+        }
+    }
+
+    /**
+     * Adds the constraints of a guess and propagates them.
+     *
+     * @param guess The guess of the match.
+     */
+    public void add(JGuess guess) {
+        assert guess != null : "The provided JGuess 'guess' cannot be null";
+        assert guess.size() == _size : "The provided JGuess 'guess' is not of the deduction word size";
+
+        long inexact = 0;
+        for (int i = 0; i < _size; i++) {
+            if (guess.matchAt(i) != JWordMatch.EXACT) {
+                inexact |= 1L << i;
+            }
+        }
+
+        for (int i = 0; i < _size; i++) {
+            long letter = 1L << _charset.get(guess.charAt(i));
+            JWordMatch match = guess.matchAt(i);
+            if (match == JWordMatch.EXACT) {
+                _possible[i] &= letter;
+                continue;
+            }
+
+            _possible[i] &= ~letter;
+            long others = inexact & ~positionsOf(guess, letter);
+            if (match == JWordMatch.PARTIAL) {
+                require(letter, others);
+            } else if (first(guess, i)) {
+                for (int q = 0; q < _size; q++) {
+                    if ((others & (1L << q)) != 0) {
+                        _possible[q] &= ~letter;
+                    }
+                }
+            }
+        }
+
+        propagate();
+    }
+
+    /**
+     * Restricts the deduction to the letters of the remaining candidate secrets and propagates the result.
+     *
+     * @param candidates The remaining candidate secrets.
+     */
+    public void intersect(JCandidateSet candidates) {
+        assert candidates != null : "The provided JCandidateSet 'candidates' cannot be null";
+        assert candidates.getDictionary().size() == _size : "The provided JCandidateSet 'candidates' is not of the deduction word size";
+        assert candidates.getDictionary().getCharset().length() == _charset.length() : "The provided JCandidateSet 'candidates' is of another character set";
+
+        byte[] letters = candidates.getDictionary().letters();
+        long[] possible = new long[_size];
+        long common = -1L;
+        for (int secret = candidates.next(0); secret != -1; secret = candidates.next(secret + 1)) {
+            long word = 0;
+            for (int i = 0; i < _size; i++) {
+                long letter = 1L << (letters[secret * _size + i] & 0xFF);
+                possible[i] |= letter;
+                word |= letter;
+            }
+            common &= word;
+        }
+
+        for (int i = 0; i < _size; i++) {
+            _possible[i] &= possible[i];
+        }
+        if (!candidates.isEmpty()) {
+            _present |= common;
+        }
+
+        propagate();
+    }
+
+    /**
+     * Determines whether the guesses so far can be produced by any secret.
+     *
+     * @return true if no contradiction was found; false otherwise.
+     */
+    public boolean isConsistent() {
+        return _consistent;
+    }
+
+    /**
+     * Determines whether a letter may still be at a position of the secret.
+     *
+     * @param index  The position within the secret.
+     * @param letter The letter of the character set.
+     * @return true if the letter is possible at the position; false otherwise.
+     */
+    public boolean isPossible(int index, char letter) {
+        assert index >= 0 && index < _size : "The provided Integer 'index' is outside of the word size";
+        assert _charset.contains(letter) : "The provided Character 'letter' is not within the character set";
+
+        return (_possible[index] & (1L << _charset.get(letter))) != 0;
+    }
+
+    /**
+     * Determines whether a letter is known to be within the secret.
+     *
+     * @param letter The letter of the character set.
+     * @return true if the letter is within the secret; false otherwise.
+     */
+    public boolean isPresent(char letter) {
+        assert _charset.contains(letter) : "The provided Character 'letter' is not within the character set";
+
+        return (present() & (1L << _charset.get(letter))) != 0;
+    }
+
+    /**
+     * Determines whether a letter is known not to be within the secret.
+     *
+     * @param letter The letter of the character set.
+     * @return true if the letter is not possible at any position; false otherwise.
+     */
+    public boolean isEliminated(char letter) {
+        assert _charset.contains(letter) : "The provided Character 'letter' is not within the character set";
+
+        long mask = 1L << _charset.get(letter);
+        for (long possible : _possible) {
+            if ((possible & mask) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the letter known to be at a position of the secret.
+     *
+     * @param index The position within the secret.
+     * @return The letter at the position, or {@link Character#UNASSIGNED} if it is not known.
+     */
+    public char known(int index) {
+        assert index >= 0 && index < _size : "The provided Integer 'index' is outside of the word size";
+
+        long possible = _possible[index];
+        if (Long.bitCount(possible) != 1) {
+            return Character.UNASSIGNED;
+        }
+        return _charset.at(Long.numberOfTrailingZeros(possible));
+    }
+
+    /**
+     * Returns the letters that may still be at a position of the secret.
+     *
+     * @param index The position within the secret.
+     * @return The mask of possible letters, with a bit set for each index of the character set.
+     */
+    public long possible(int index) {
+        assert index >= 0 && index < _size : "The provided Integer 'index' is outside of the word size";
+
+        return _possible[index];
+    }
+
+    /**
+     * Returns the positions of a guess that hold a letter.
+     */
+    private long positionsOf(JGuess guess, long letter) {
+        long positions = 0;
+        for (int i = 0; i < _size; i++) {
+            if (1L << _charset.get(guess.charAt(i)) == letter) {
+                positions |= 1L << i;
+            }
+        }
+        return positions;
+    }
+
+    /**
+     * Determines whether a position holds the first inexact occurrence of its letter within a guess.
+     */
+    private boolean first(JGuess guess, int index) {
+        char ch = guess.charAt(index);
+        for (int j = 0; j < index; j++) {
+            if (guess.charAt(j) == ch && guess.matchAt(j) != JWordMatch.EXACT) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records that a letter is within the secret at one of the specified positions.
+     */
+    private void require(long letter, long positions) {
+        if (_requirements == _required.length) {
+            _required = Arrays.copyOf(_required, 2 * _requirements);
+            _positions = Arrays.copyOf(_positions, 2 * _requirements);
+        }
+
+        _required[_requirements] = letter;
+        _positions[_requirements] = positions;
+        _requirements++;
+        _present |= letter;
+    }
+
+    /**
+     * Returns the letters known to be within the secret.
+     */
+    private long present() {
+        long present = _present;
+        for (long possible : _possible) {
+            if (Long.bitCount(possible) == 1) {
+                present |= possible;
+            }
+        }
+        return present;
+    }
+
+    /**
+     * Propagates the requirements across the positions until a fixed point is reached.
+     */
+    private void propagate() {
+        boolean changed = true;
+        while (changed && _consistent) {
+            changed = false;
+
+            long outstanding = 0;
+            for (int r = 0; r < _requirements; r++) {
+                long letter = _required[r];
+                int candidates = 0;
+                int last = -1;
+                boolean placed = false;
+                for (int q = 0; q < _size && !placed; q++) {
+                    if ((_positions[r] & (1L << q)) == 0 || (_possible[q] & letter) == 0) {
+                        continue;
+                    }
+                    placed = _possible[q] == letter;
+                    candidates++;
+                    last = q;
+                }
+
+                if (placed) {
+                    continue;
+                }
+                if (candidates == 0) {
+                    _consistent = false;
+                } else if (candidates == 1) {
+                    _possible[last] = letter;
+                    changed = true;
+                } else {
+                    outstanding |= letter;
+                }
+            }
+
+            int unknown = 0;
+            for (long possible : _possible) {
+                if (possible == 0) {
+                    _consistent = false;
+                } else if (Long.bitCount(possible) > 1) {
+                    unknown++;
+                }
+            }
+
+            if (!changed && unknown > 0 && Long.bitCount(outstanding) == unknown) {
+                for (int q = 0; q < _size; q++) {
+                    long possible = _possible[q];
+                    if (Long.bitCount(possible) > 1 && (possible & outstanding) != possible) {
+                        _possible[q] = possible & outstanding;
+                        changed = true;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -2,9 +2,9 @@ package ca.jotto.model;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.*;
-
-import static java.lang.Integer.parseInt;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Represents a collection of {@link JWord} values.
@@ -12,11 +12,22 @@ import static java.lang.Integer.parseInt;
 public final class JDictionary {
 
     private final int _size;
+    private final int _length;
     private final int _minDifficulty;
     private final int _maxDifficulty;
     private final JCharset _charset;
-    private final Map<Integer, ArrayList<JWord>> _difficultyMap;
-    private final HashMap<String, JWord> _wordMap;
+    private final byte[] _letters;
+    private final int[] _difficulties;
+    private final int _bits;
+    private final long[] _keys;
+    private final int[] _sorted;
+    private final int[] _levels;
+    private final int[] _levelStarts;
+    private final int[] _levelWords;
+    private volatile JFeedbackMatrix _matrix;
+    private volatile JPerfectHash _hash;
+    private volatile JBloomFilter _filter;
+    private volatile long _fingerprint;
 
     /**
      * Initializes a new instance of the {@link JDictionary} class that contains words of the specified word size.
@@ -24,42 +35,167 @@ public final class JDictionary {
      * @param charset  The character set of the dictionary.
      * @param wordSize The size of the dictionary words.
      * @param words    The elements are copied into the {@link JDictionary}.
+     * @throws IllegalArgumentException If the word size exceeds {@link JFeedback#MAXIMUM_SIZE}, or a word is repeated.
      */
     public JDictionary(JCharset charset, int wordSize, ArrayList<JWord> words) {
+        this(charset, wordSize, encode(charset, wordSize, words), difficulties(words));
+    }
+
+    /**
+     * Initializes a new instance of the {@link JDictionary} class from packed letter indices.
+     * <p>
+     * Words are held only in packed form: the letters as character set indices, a parallel array of difficulties, and
+     * the words sorted by letter for binary search, as 64-bit keys when a word fits within one. {@link JWord}
+     * instances are created on demand.
+     *
+     * @param charset      The character set of the dictionary.
+     * @param wordSize     The size of the dictionary words.
+     * @param letters      The character set index of each letter, word after word.
+     * @param difficulties The difficulty of each word.
+     * @throws IllegalArgumentException If the word size exceeds {@link JFeedback#MAXIMUM_SIZE}, or a word is repeated.
+     */
+    JDictionary(JCharset charset, int wordSize, byte[] letters, int[] difficulties) {
         assert charset != null : "The provided JCharset 'charset' cannot be null";
-        assert words != null : "The provided ArrayList<JWord> 'words' cannot be null";
         assert wordSize > 0 : "The provided Integer 'wordSize' must be greater than zero";
-        for (JWord word : words) {
-            assert word.length() == wordSize : String.format("The provided word '%s' is not of size %d", word.word(), wordSize);
+        assert charset.length() <= 256 : "The provided JCharset 'charset' cannot exceed 256 characters";
+        assert letters != null : "The provided array 'letters' cannot be null";
+        assert difficulties != null : "The provided array 'difficulties' cannot be null";
+        assert letters.length == difficulties.length * wordSize : "The provided array 'letters' does not match the word count";
+        if (wordSize > JFeedback.MAXIMUM_SIZE) {
+            throw new IllegalArgumentException(String.format("The word size %d exceeds the largest scorable size of %d.", wordSize, JFeedback.MAXIMUM_SIZE));
         }
 
+        int length = difficulties.length;
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(charset.length() - 1, 1));
+
         _charset = charset;
         _size = wordSize;
+        _length = length;
+        _letters = letters;
+        _difficulties = difficulties;
+        _bits = bits;
+
+        int[] sorted = new int[length];
+        if (wordSize * bits < Long.SIZE) {
+            long[] keys = new long[length];
+            long[] ordered = new long[length];
+            for (int i = 0; i < length; i++) {
+                keys[i] = key(i);
+                ordered[i] = keys[i];
+            }
+            Arrays.sort(ordered);
+            for (int i = 1; i < length; i++) {
+                if (ordered[i - 1] == ordered[i]) {
+                    int duplicate = 0;
+                    while (keys[duplicate] != ordered[i]) {
+                        duplicate++;
+                    }
+                    throw new IllegalArgumentException(String.format("The provided word '%s' is already within the dictionary.", word(duplicate)));
+                }
+            }
+            for (int i = 0; i < length; i++) {
+                sorted[Arrays.binarySearch(ordered, keys[i])] = i;
+            }
+            _keys = ordered;
+        } else {
+            Integer[] boxed = new Integer[length];
+            for (int i = 0; i < length; i++) {
+                boxed[i] = i;
+            }
+            Arrays.sort(boxed, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    return compareLetters(a, b);
+                }
+            });
+            for (int i = 0; i < length; i++) {
+                sorted[i] = boxed[i];
+                if (i > 0 && compareLetters(sorted[i - 1], sorted[i]) == 0) {
+                    throw new IllegalArgumentException(String.format("The provided word '%s' is already within the dictionary.", word(sorted[i])));
+                }
+            }
+            _keys = null;
+        }
+        _sorted = sorted;
+
+        int[] ordered = difficulties.clone();
+        Arrays.sort(ordered);
+        int levels = 0;
+        for (int i = 0; i < length; i++) {
+            if (i == 0 || ordered[i] != ordered[i - 1]) {
+                ordered[levels++] = ordered[i];
+            }
+        }
+        _levels = Arrays.copyOf(ordered, levels);
+        _levelStarts = new int[levels + 1];
+        _levelWords = new int[length];
+        for (int difficulty : difficulties) {
+            _levelStarts[Arrays.binarySearch(_levels, difficulty) + 1]++;
+        }
+        for (int i = 0; i < levels; i++) {
+            _levelStarts[i + 1] += _levelStarts[i];
+        }
+        int[] next = Arrays.copyOf(_levelStarts, levels);
+        for (int i = 0; i < length; i++) {
+            _levelWords[next[Arrays.binarySearch(_levels, difficulties[i])]++] = i;
+        }
 
-        _difficultyMap = new HashMap<Integer, ArrayList<JWord>>();
-        _wordMap = new HashMap<String, JWord>();
+        _minDifficulty = levels == 0 ? Integer.MAX_VALUE : _levels[0];
+        _maxDifficulty = levels == 0 ? Integer.MIN_VALUE : _levels[levels - 1];
+    }
+
+    /**
+     * Encodes words into packed letter indices.
+     */
+    static private byte[] encode(JCharset charset, int wordSize, ArrayList<JWord> words) {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+        assert words != null : "The provided ArrayList<JWord> 'words' cannot be null";
+        assert wordSize > 0 : "The provided Integer 'wordSize' must be greater than zero";
 
-        int minDifficulty = Integer.MAX_VALUE;
-        int maxDifficulty = Integer.MIN_VALUE;
+        byte[] letters = new byte[words.size() * wordSize];
         for (int i = 0; i < words.size(); i++) {
             JWord word = words.get(i);
-            assert _charset.contains(word.word()) : String.format("The provided word '%s' is not within the character set.", word.word());
-            assert !_wordMap.containsKey(word.word()) : String.format("The provided word '%s' is already within the dictionary.", word.word());
+            assert word.length() == wordSize : String.format("The provided word '%s' is not of size %d", word.word(), wordSize);
+            assert charset.contains(word.word()) : String.format("The provided word '%s' is not within the character set.", word.word());
 
-            minDifficulty = Math.min(minDifficulty, word.difficulty());
-            maxDifficulty = Math.max(maxDifficulty, word.difficulty());
+            charset.encode(word.word(), letters, i * wordSize);
+        }
+        return letters;
+    }
 
-            _wordMap.put(word.word(), word);
-            ArrayList<JWord> lists = _difficultyMap.getOrDefault(word.difficulty(), null);
-            if (lists == null) {
-                lists = new ArrayList<JWord>();
-                _difficultyMap.put(word.difficulty(), lists);
-            }
-            lists.add(word);
+    /**
+     * Collects the difficulties of words.
+     */
+    static private int[] difficulties(ArrayList<JWord> words) {
+        int[] difficulties = new int[words.size()];
+        for (int i = 0; i < difficulties.length; i++) {
+            difficulties[i] = words.get(i).difficulty();
         }
+        return difficulties;
+    }
 
-        _minDifficulty = minDifficulty;
-        _maxDifficulty = maxDifficulty;
+    /**
+     * Returns the sort key of the word at an index, with the first letter in the most significant bits.
+     */
+    private long key(int index) {
+        long key = 0;
+        for (int l = 0; l < _size; l++) {
+            key = (key << _bits) | (_letters[index * _size + l] & 0xFF);
+        }
+        return key;
+    }
+
+    /**
+     * Compares the letters of the words at two indices.
+     */
+    private int compareLetters(int a, int b) {
+        for (int l = 0; l < _size; l++) {
+            int difference = (_letters[a * _size + l] & 0xFF) - (_letters[b * _size + l] & 0xFF);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
     }
 
     /**
@@ -74,37 +210,7 @@ public final class JDictionary {
         assert charset != null : "The provided JCharset 'charset' cannot be null";
         assert inputStream != null : "The provided InputStream 'inputStream' cannot be null";
 
-        Scanner reader = new Scanner(inputStream);
-
-        ArrayList<JWord> words = new ArrayList<JWord>();
-        int size = 0;
-        while (reader.hasNextLine()) {
-            String txt = reader.nextLine();
-            String[] data = txt.split(" ");
-
-            if (data.length != 2) {
-                throw new IllegalArgumentException("The input format is not of the form [<WORD> <DIFFICULTY>].");
-            }
-
-            String word = data[0];
-            int difficulty = parseInt(data[1]);
-            size = word.length();
-
-            if (word.isEmpty()) {
-                throw new IllegalArgumentException("The argument 'word' cannot be the empty string.");
-            }
-
-            if (!charset.contains(word)) {
-                throw new IllegalArgumentException("The argument 'word' does not match the character set of the dictionary.");
-            }
-
-            JWord jword = new JWord(word, difficulty);
-            words.add(jword);
-        }
-
-        reader.close();
-
-        return new JDictionary(charset, size, words);
+        return JDictionaryReader.read(charset, inputStream);
     }
 
     /**
@@ -117,29 +223,124 @@ public final class JDictionary {
         assert word != null : "The provided String 'word' cannot be null";
         assert word.length() == _size : "The provided String 'word' is not of length 'size()'";
 
-        return _wordMap.containsKey(word);
+        JBloomFilter filter = _filter;
+        if (filter != null && !filter.mightContain(word)) {
+            return false;
+        }
+
+        boolean contains = indexOf(word) != -1;
+        if (filter != null && !contains) {
+            filter.falsePositive();
+        }
+        return contains;
     }
 
     /**
      * Gets a random word from the dictionary with a specified difficulty.
+     * <p>
+     * The word is chosen with the {@link ThreadLocalRandom} of the calling thread.
      *
      * @param difficulty The difficulty of the words to query against.
-     * @return The word within the dictionary.
+     * @return The word within the dictionary, or null if no word has the difficulty.
      */
     public JWord random(int difficulty) {
-        assert difficulty >= 0 : "The provided Integer 'difficulty' cannot less than zero";
-        assert difficulty >= _minDifficulty : "The provided Integer 'difficulty' is less than the minimum difficulty.";
-        assert difficulty <= _maxDifficulty : "The provided Integer 'difficulty' is greater than the maximum difficulty.";
+        int level = level(difficulty);
+        if (level < 0) {
+            return null;
+        }
 
-        Random ran = new Random();
-        ArrayList<JWord> list = _difficultyMap.get(difficulty);
-        if (list == null || list.isEmpty()) {
+        int from = _levelStarts[level];
+        return at(_levelWords[from + ThreadLocalRandom.current().nextInt(_levelStarts[level + 1] - from)]);
+    }
+
+    /**
+     * Gets a random word from the dictionary with a specified difficulty, chosen by a seeded generator.
+     * <p>
+     * The same sequence of calls with generators of the same seed chooses the same words, so that matches can be
+     * replayed.
+     *
+     * @param difficulty The difficulty of the words to query against.
+     * @param random     The generator that chooses the word.
+     * @return The word within the dictionary, or null if no word has the difficulty.
+     */
+    public JWord random(int difficulty, SplittableRandom random) {
+        assert random != null : "The provided SplittableRandom 'random' cannot be null";
+
+        int level = level(difficulty);
+        if (level < 0) {
             return null;
         }
 
-        int index = ran.nextInt(list.size());
-        JWord result = list.get(index);
-        return result;
+        int from = _levelStarts[level];
+        return at(_levelWords[from + random.nextInt(_levelStarts[level + 1] - from)]);
+    }
+
+    /**
+     * Chooses distinct random words with a specified difficulty.
+     * <p>
+     * The words are chosen with a generator seeded from the {@link ThreadLocalRandom} of the calling thread.
+     *
+     * @param difficulty The difficulty of the words to query against.
+     * @param count      The number of words to choose.
+     * @return The indices of the distinct words, in random order.
+     */
+    public int[] sample(int difficulty, int count) {
+        return sample(difficulty, count, new SplittableRandom(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Chooses distinct random words with a specified difficulty, without replacement, by a seeded generator.
+     * <p>
+     * The words are sampled with Floyd's algorithm and then shuffled, taking two draws from the generator per word
+     * regardless of how many words have the difficulty.
+     *
+     * @param difficulty The difficulty of the words to query against.
+     * @param count      The number of words to choose.
+     * @param random     The generator that chooses the words.
+     * @return The indices of the distinct words, in random order.
+     */
+    public int[] sample(int difficulty, int count, SplittableRandom random) {
+        assert random != null : "The provided SplittableRandom 'random' cannot be null";
+        assert count >= 0 : "The provided Integer 'count' cannot be less than zero";
+
+        int level = level(difficulty);
+        int from = level < 0 ? 0 : _levelStarts[level];
+        int words = level < 0 ? 0 : _levelStarts[level + 1] - from;
+        assert count <= words : "The provided Integer 'count' exceeds the number of words of the difficulty";
+
+        int[] sample = new int[count];
+        long[] chosen = new long[(words + Long.SIZE - 1) / Long.SIZE];
+        int n = 0;
+        for (int j = words - count; j < words; j++) {
+            int t = random.nextInt(j + 1);
+            if ((chosen[t >>> 6] & (1L << t)) != 0) {
+                t = j;
+            }
+            chosen[t >>> 6] |= 1L << t;
+            sample[n++] = t;
+        }
+
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = sample[i];
+            sample[i] = sample[j];
+            sample[j] = t;
+        }
+        for (int i = 0; i < count; i++) {
+            sample[i] = _levelWords[from + sample[i]];
+        }
+        return sample;
+    }
+
+    /**
+     * Returns the position of a difficulty within the levels of the dictionary, or a negative value if no word has it.
+     */
+    private int level(int difficulty) {
+        assert difficulty >= 0 : "The provided Integer 'difficulty' cannot less than zero";
+        assert difficulty >= _minDifficulty : "The provided Integer 'difficulty' is less than the minimum difficulty.";
+        assert difficulty <= _maxDifficulty : "The provided Integer 'difficulty' is greater than the maximum difficulty.";
+
+        return Arrays.binarySearch(_levels, difficulty);
     }
 
     /**
@@ -156,7 +357,321 @@ public final class JDictionary {
             throw new IllegalArgumentException("The argument 'word' is not present in the dictionary.");
         }
 
-        return _wordMap.get(word);
+        return at(indexOf(word));
+    }
+
+    /**
+     * Returns the index of the {@link JWord} associated with the specified string.
+     *
+     * @param word The string of the {@link JWord} to locate.
+     * @return The index of the word within the {@link JDictionary}, or -1 if the word is not present.
+     */
+    public int indexOf(String word) {
+        assert word != null : "The provided String 'word' cannot be null";
+
+        JPerfectHash hash = _hash;
+        if (hash != null) {
+            return hash.indexOf(this, word);
+        }
+        if (word.length() != _size) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = _length - 1;
+        if (_keys != null) {
+            long key = 0;
+            for (int l = 0; l < _size; l++) {
+                int letter = _charset.get(word.charAt(l));
+                if (letter == -1) {
+                    return -1;
+                }
+                key = (key << _bits) | letter;
+            }
+
+            int rank = Arrays.binarySearch(_keys, key);
+            return rank < 0 ? -1 : _sorted[rank];
+        }
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int index = _sorted[middle];
+            int difference = 0;
+            for (int l = 0; l < _size && difference == 0; l++) {
+                int letter = _charset.get(word.charAt(l));
+                if (letter == -1) {
+                    return -1;
+                }
+                difference = (_letters[index * _size + l] & 0xFF) - letter;
+            }
+
+            if (difference < 0) {
+                low = middle + 1;
+            } else if (difference > 0) {
+                high = middle - 1;
+            } else {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the {@link JWord} at the specified index.
+     *
+     * @param index The index of the word.
+     * @return The {@link JWord} at the specified index of the {@link JDictionary}.
+     */
+    public JWord at(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+        assert index < _length : "The provided Integer 'index' exceeds the word count";
+
+        return new JWord(word(index), _difficulties[index]);
+    }
+
+    /**
+     * Returns the string of the word at the specified index.
+     *
+     * @param index The index of the word.
+     * @return The string of the word at the specified index of the {@link JDictionary}.
+     */
+    public String word(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+        assert index < _length : "The provided Integer 'index' exceeds the word count";
+
+        char[] characters = new char[_size];
+        for (int l = 0; l < _size; l++) {
+            characters[l] = _charset.at(_letters[index * _size + l] & 0xFF);
+        }
+        return new String(characters);
+    }
+
+    /**
+     * Returns the difficulty of the word at the specified index.
+     *
+     * @param index The index of the word.
+     * @return The difficulty of the word at the specified index of the {@link JDictionary}.
+     */
+    public int difficulty(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+        assert index < _length : "The provided Integer 'index' exceeds the word count";
+
+        return _difficulties[index];
+    }
+
+    /**
+     * Scores the guess at one index against the secret at another, as a packed {@link JFeedback} value.
+     * <p>
+     * The score is read from the feedback matrix once it has been built, and computed otherwise.
+     *
+     * @param guess  The index of the guessed word.
+     * @param secret The index of the secret word.
+     * @return The packed score of the guess.
+     */
+    public int score(int guess, int secret) {
+        assert guess >= 0 && guess < _length : "The provided Integer 'guess' is outside of the dictionary";
+        assert secret >= 0 && secret < _length : "The provided Integer 'secret' is outside of the dictionary";
+
+        JFeedbackMatrix matrix = _matrix;
+        if (matrix != null) {
+            return matrix.get(guess, secret);
+        }
+        return JFeedback.score(_letters, guess * _size, _letters, secret * _size, _size);
+    }
+
+    /**
+     * Returns the feedback matrix of the dictionary, building it on first use.
+     *
+     * @return The matrix of scores between every pair of words.
+     */
+    public JFeedbackMatrix feedbackMatrix() {
+        JFeedbackMatrix matrix = _matrix;
+        if (matrix == null) {
+            synchronized (this) {
+                matrix = _matrix;
+                if (matrix == null) {
+                    matrix = JFeedbackMatrix.build(this);
+                    _matrix = matrix;
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Returns the feedback matrix of the dictionary, mapping it from a cache file on first use.
+     * <p>
+     * A cache file that is missing, was built from another dictionary or is corrupt is rebuilt and replaced.
+     *
+     * @param cache The path of the cache file.
+     * @return The matrix of scores between every pair of words.
+     * @throws IOException An error occurred while attempting to read or write the cache file.
+     */
+    public JFeedbackMatrix feedbackMatrix(Path cache) throws IOException {
+        assert cache != null : "The provided Path 'cache' cannot be null";
+
+        JFeedbackMatrix matrix = _matrix;
+        if (matrix == null) {
+            synchronized (this) {
+                matrix = _matrix;
+                if (matrix == null) {
+                    matrix = JFeedbackMatrix.open(cache, this);
+                    if (matrix == null) {
+                        JFeedbackMatrix built = JFeedbackMatrix.build(this);
+                        built.write(cache, this);
+
+                        matrix = JFeedbackMatrix.open(cache, this);
+                        if (matrix == null) {
+                            matrix = built;
+                        }
+                    }
+                    _matrix = matrix;
+                }
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Determines whether the feedback matrix has been built.
+     *
+     * @return true if scores are read from the feedback matrix; false otherwise.
+     */
+    public boolean hasFeedbackMatrix() {
+        return _matrix != null;
+    }
+
+    /**
+     * Returns the minimal perfect hash of the dictionary, building it on first use.
+     * <p>
+     * Once the perfect hash is present, lookups of words probe a single slot instead of searching the sorted words.
+     *
+     * @return The minimal perfect hash of the words.
+     */
+    public JPerfectHash perfectHash() {
+        JPerfectHash hash = _hash;
+        if (hash == null) {
+            synchronized (this) {
+                hash = _hash;
+                if (hash == null) {
+                    hash = JPerfectHash.build(this);
+                    _hash = hash;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Sets the minimal perfect hash of the dictionary, as read alongside a compiled dictionary.
+     *
+     * @param hash The minimal perfect hash of the words.
+     */
+    void perfectHash(JPerfectHash hash) {
+        assert hash != null : "The provided JPerfectHash 'hash' cannot be null";
+        assert hash.length() == _length : "The provided JPerfectHash 'hash' is not of the dictionary length";
+
+        _hash = hash;
+    }
+
+    /**
+     * Determines whether the minimal perfect hash has been built.
+     *
+     * @return true if words are located through the minimal perfect hash; false otherwise.
+     */
+    public boolean hasPerfectHash() {
+        return _hash != null;
+    }
+
+    /**
+     * Builds a Bloom filter over the words and places it in front of {@link #contains(String)}, replacing any other.
+     *
+     * @param falsePositiveRate The expected rate at which strings that are not words pass the filter.
+     * @return The Bloom filter of the dictionary.
+     */
+    public JBloomFilter bloomFilter(double falsePositiveRate) {
+        JBloomFilter filter = JBloomFilter.build(this, falsePositiveRate);
+        _filter = filter;
+        return filter;
+    }
+
+    /**
+     * Returns the Bloom filter in front of {@link #contains(String)}.
+     *
+     * @return The Bloom filter of the dictionary, or null if no filter has been built.
+     */
+    public JBloomFilter bloomFilter() {
+        return _filter;
+    }
+
+    /**
+     * Returns the approximate number of bytes held by the dictionary.
+     * <p>
+     * The footprint counts the packed words, the lookup and difficulty tables, and the perfect hash, Bloom filter and
+     * feedback matrix once they are present, including a matrix mapped from a cache file. Object headers and the
+     * shared character set are not counted.
+     *
+     * @return The size of the dictionary in bytes.
+     */
+    public long footprint() {
+        long bytes = _letters.length + 4L * _difficulties.length + 4L * _sorted.length
+                + (_keys == null ? 0 : 8L * _keys.length)
+                + 4L * (_levels.length + _levelStarts.length + _levelWords.length);
+
+        JPerfectHash hash = _hash;
+        JBloomFilter filter = _filter;
+        JFeedbackMatrix matrix = _matrix;
+        if (hash != null) {
+            bytes += hash.footprint();
+        }
+        if (filter != null) {
+            bytes += filter.bits() / Byte.SIZE;
+        }
+        if (matrix != null) {
+            bytes += (long) matrix.length() * matrix.length();
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a hash of the character set, word size and words of the dictionary in index order.
+     * <p>
+     * The hash is computed on first use and kept, as the words of a dictionary do not change.
+     *
+     * @return The 64-bit FNV-1a hash of the dictionary contents.
+     */
+    public long fingerprint() {
+        long fingerprint = _fingerprint;
+        if (fingerprint == 0) {
+            fingerprint = hash();
+            _fingerprint = fingerprint;
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Computes the hash of the character set, word size and words of the dictionary.
+     */
+    private long hash() {
+        long hash = 0xcbf29ce484222325L;
+        hash = (hash ^ _size) * 0x100000001b3L;
+        hash = (hash ^ _length) * 0x100000001b3L;
+        for (int i = 0; i < _charset.length(); i++) {
+            hash = (hash ^ _charset.at(i)) * 0x100000001b3L;
+        }
+        for (byte letter : _letters) {
+            hash = (hash ^ (letter & 0xFF)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the words of the dictionary encoded as character set indices, one word after another.
+     *
+     * @return The encoded words, which must not be modified.
+     */
+    byte[] letters() {
+        return _letters;
     }
 
     /**
@@ -192,7 +707,7 @@ public final class JDictionary {
      * @return The number of guesses contained in the dictionary.
      */
     public int length() {
-        return _wordMap.size();
+        return _length;
     }
 
     /**
@@ -205,11 +720,15 @@ public final class JDictionary {
     }
 
     /**
-     * Copies the words of the {@link JDictionary} to a new array.
+     * Copies the words of the {@link JDictionary} to a new array, ordered by their index.
      *
      * @return The words of the dictionary.
      */
     public JWord[] toArray() {
-        return _wordMap.values().toArray(new JWord[_wordMap.size()]);
+        JWord[] words = new JWord[_length];
+        for (int i = 0; i < _length; i++) {
+            words[i] = at(i);
+        }
+        return words;
     }
 }
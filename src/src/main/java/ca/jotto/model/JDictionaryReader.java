@@ -0,0 +1,197 @@
+package ca.jotto.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads a text dictionary of WORD DIFFICULTY lines straight into packed letter indices.
+ * <p>
+ * The stream is read in fixed chunks and each line is parsed in place: the letters of the word are encoded through
+ * the {@link JCharset} as they are read and the difficulty digits are accumulated into an integer, so no line,
+ * string or token is allocated for ASCII input. A word containing non-ASCII bytes is decoded as UTF-8 before it is
+ * encoded. Apart from the growing dictionary itself, the reader uses a constant amount of memory.
+ */
+final class JDictionaryReader {
+
+    static private final int CHUNK = 64 * 1024;
+
+    private final JCharset _charset;
+    private final InputStream _inputStream;
+    private final byte[] _chunk;
+    private int _position;
+    private int _limit;
+
+    private byte[] _word;
+    private int _size;
+    private byte[] _letters;
+    private int[] _difficulties;
+    private int _count;
+
+    private JDictionaryReader(JCharset charset, InputStream inputStream) {
+        _charset = charset;
+        _inputStream = inputStream;
+        _chunk = new byte[CHUNK];
+        _word = new byte[16];
+        _letters = new byte[1024];
+        _difficulties = new int[128];
+    }
+
+    /**
+     * Reads a dictionary from a stream.
+     *
+     * @param charset     The character set for the words.
+     * @param inputStream The input stream containing the jotto dictionary.
+     * @return The dictionary that has been read from the stream.
+     * @throws IOException An error occurred while attempting to read from the {@link InputStream}.
+     */
+    static JDictionary read(JCharset charset, InputStream inputStream) throws IOException {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+        assert inputStream != null : "The provided InputStream 'inputStream' cannot be null";
+
+        JDictionaryReader reader = new JDictionaryReader(charset, inputStream);
+        while (reader.line()) {
+            // Each line is added as it is read
+        }
+
+        return new JDictionary(charset, reader._size, Arrays.copyOf(reader._letters, reader._count * reader._size),
+                Arrays.copyOf(reader._difficulties, reader._count));
+    }
+
+    /**
+     * Returns the next byte of the stream, or -1 at the end of the stream.
+     */
+    private int next() throws IOException {
+        if (_position == _limit) {
+            _limit = _inputStream.read(_chunk, 0, CHUNK);
+            _position = 0;
+            if (_limit <= 0) {
+                _limit = 0;
+                return -1;
+            }
+        }
+        return _chunk[_position++] & 0xFF;
+    }
+
+    /**
+     * Returns the next byte of the stream without consuming it, or -1 at the end of the stream.
+     */
+    private int peek() throws IOException {
+        int value = next();
+        if (value != -1) {
+            _position--;
+        }
+        return value;
+    }
+
+    /**
+     * Reads a single line, returning false if the stream had already ended.
+     */
+    private boolean line() throws IOException {
+        int value = next();
+        if (value == -1) {
+            return false;
+        }
+
+        int length = 0;
+        boolean ascii = true;
+        while (value != ' ' && value != '\n' && value != '\r' && value != -1) {
+            if (length == _word.length) {
+                _word = Arrays.copyOf(_word, 2 * length);
+            }
+            _word[length++] = (byte) value;
+            ascii &= value < 0x80;
+            value = next();
+        }
+        if (value != ' ') {
+            throw new IllegalArgumentException("The input format is not of the form [<WORD> <DIFFICULTY>].");
+        }
+
+        int difficulty = difficulty();
+
+        if (length == 0) {
+            throw new IllegalArgumentException("The argument 'word' cannot be the empty string.");
+        }
+
+        add(length, ascii, difficulty);
+        return true;
+    }
+
+    /**
+     * Parses the difficulty that ends the line, consuming the line terminator.
+     */
+    private int difficulty() throws IOException {
+        int value = next();
+        boolean negative = value == '-';
+        if (value == '-' || value == '+') {
+            value = next();
+        }
+
+        long difficulty = 0;
+        int digits = 0;
+        while (value >= '0' && value <= '9') {
+            difficulty = 10 * difficulty + (value - '0');
+            if (difficulty > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("The difficulty exceeds the range of an integer.");
+            }
+            digits++;
+            value = next();
+        }
+
+        // Trailing spaces at the end of a line are ignored, as with String.split
+        while (value == ' ') {
+            value = next();
+            if (value != ' ' && value != '\n' && value != '\r' && value != -1) {
+                throw new IllegalArgumentException("The input format is not of the form [<WORD> <DIFFICULTY>].");
+            }
+        }
+        if (value == '\r' && peek() == '\n') {
+            next();
+        } else if (value != '\n' && value != '\r' && value != -1) {
+            throw new NumberFormatException("The difficulty is not a decimal integer.");
+        }
+
+        if (digits == 0 || (!negative && difficulty > Integer.MAX_VALUE)) {
+            throw new NumberFormatException("The difficulty is not a decimal integer.");
+        }
+        return (int) (negative ? -difficulty : difficulty);
+    }
+
+    /**
+     * Encodes the word that was read and appends it to the dictionary.
+     */
+    private void add(int length, boolean ascii, int difficulty) {
+        CharSequence text = ascii ? null : new String(_word, 0, length, StandardCharsets.UTF_8);
+        int size = ascii ? length : text.length();
+
+        if (_count == 0) {
+            _size = size;
+        }
+        if ((_count + 1) * _size > _letters.length) {
+            _letters = Arrays.copyOf(_letters, Math.max(2 * _letters.length, (_count + 1) * _size));
+        }
+        if (_count == _difficulties.length) {
+            _difficulties = Arrays.copyOf(_difficulties, 2 * _count);
+        }
+
+        int offset = _count * _size;
+        boolean valid = true;
+        for (int i = 0; i < size && valid; i++) {
+            int index = _charset.get(ascii ? (char) _word[i] : text.charAt(i));
+            valid = index != -1;
+            if (valid && i < _size) {
+                _letters[offset + i] = (byte) index;
+            }
+        }
+
+        if (!valid) {
+            throw new IllegalArgumentException("The argument 'word' does not match the character set of the dictionary.");
+        }
+        if (size != _size) {
+            throw new IllegalArgumentException("The argument 'word' is not of the same size as the other words.");
+        }
+
+        _difficulties[_count++] = difficulty;
+    }
+}
@@ -0,0 +1,254 @@
+package ca.jotto.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents the dictionaries of the jotto variants served by a process.
+ * <p>
+ * A dictionary is registered by its {@link JVariant} and the path of a text or compiled word list, and is loaded on
+ * the first request for it. Each variant loads independently, so requests for different variants load in parallel
+ * while concurrent requests for the same variant wait for a single load. A load that fails is retried by the next
+ * request. Character sets are interned, so that every dictionary of the same characters shares one {@link JCharset}.
+ */
+public final class JDictionaryRegistry {
+
+    private final ConcurrentHashMap<JCharset, JCharset> _charsets;
+    private final ConcurrentHashMap<JVariant, Entry> _entries;
+
+    /**
+     * Initializes a new instance of the {@link JDictionaryRegistry} class with no variants.
+     */
+    public JDictionaryRegistry() {
+        _charsets = new ConcurrentHashMap<>();
+        _entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Registers the word list of a variant, replacing any list registered for it.
+     * <p>
+     * A file that starts as a compiled dictionary is mapped with {@link JCompiledDictionary#open(Path)}, and any other
+     * file is read as WORD DIFFICULTY lines and given its {@link JDictionary#perfectHash()} as it loads, so that every
+     * served dictionary locates words with a single probe.
+     *
+     * @param variant The variant of the words.
+     * @param path    The path of the word list.
+     * @return The variant with its interned character set.
+     */
+    public JVariant register(JVariant variant, Path path) {
+        assert variant != null : "The provided JVariant 'variant' cannot be null";
+        assert path != null : "The provided Path 'path' cannot be null";
+
+        JVariant interned = new JVariant(intern(variant.getCharset()), variant.size());
+        _entries.put(interned, new Entry(interned, path));
+        return interned;
+    }
+
+    /**
+     * Returns the interned character set of the same characters.
+     *
+     * @param charset The character set to intern.
+     * @return The character set shared by the dictionaries of the registry.
+     */
+    public JCharset intern(JCharset charset) {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+
+        JCharset interned = _charsets.putIfAbsent(charset, charset);
+        return interned == null ? charset : interned;
+    }
+
+    /**
+     * Returns the dictionary of a variant, loading it on first use.
+     *
+     * @param variant The variant of the words.
+     * @return The dictionary of the variant.
+     * @throws IOException An error occurred while attempting to load the word list.
+     */
+    public JDictionary get(JVariant variant) throws IOException {
+        return entry(variant).get();
+    }
+
+    /**
+     * Starts loading the dictionaries of every registered variant that has not been loaded.
+     *
+     * @param executor The executor that loads the dictionaries.
+     */
+    public void preload(Executor executor) {
+        assert executor != null : "The provided Executor 'executor' cannot be null";
+
+        for (Entry entry : _entries.values()) {
+            FutureTask<JDictionary> task = entry.task();
+            if (!task.isDone()) {
+                executor.execute(task);
+            }
+        }
+    }
+
+    /**
+     * Determines whether the dictionary of a variant has been loaded.
+     *
+     * @param variant The variant of the words.
+     * @return true if the dictionary is loaded; false otherwise.
+     */
+    public boolean isLoaded(JVariant variant) {
+        return entry(variant).dictionary() != null;
+    }
+
+    /**
+     * Returns the registered variants.
+     *
+     * @return The variants of the registry.
+     */
+    public Set<JVariant> variants() {
+        return Collections.unmodifiableSet(_entries.keySet());
+    }
+
+    /**
+     * Returns the approximate memory held by the dictionary of a variant.
+     *
+     * @param variant The variant of the words.
+     * @return The {@link JDictionary#footprint()} of the dictionary, or zero if it has not been loaded.
+     */
+    public long footprint(JVariant variant) {
+        JDictionary dictionary = entry(variant).dictionary();
+        return dictionary == null ? 0 : dictionary.footprint();
+    }
+
+    /**
+     * Returns the approximate memory held by the loaded dictionaries.
+     *
+     * @return The sum of the footprint of every variant.
+     */
+    public long footprint() {
+        long bytes = 0;
+        for (JVariant variant : _entries.keySet()) {
+            bytes += footprint(variant);
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns a report of the words and memory of each variant.
+     *
+     * @return A line for each variant, followed by the total.
+     */
+    public String report() {
+        StringBuilder builder = new StringBuilder();
+        for (Entry entry : _entries.values()) {
+            JDictionary dictionary = entry.dictionary();
+            if (dictionary == null) {
+                builder.append(String.format("%-20s %8s %12s%n", entry._variant, "-", "not loaded"));
+            } else {
+                builder.append(String.format("%-20s %8d %12d bytes%n", entry._variant, dictionary.length(),
+                        dictionary.footprint()));
+            }
+        }
+        builder.append(String.format("%-20s %8s %12d bytes%n", "total", "", footprint()));
+        return builder.toString();
+    }
+
+    private Entry entry(JVariant variant) {
+        assert variant != null : "The provided JVariant 'variant' cannot be null";
+
+        Entry entry = _entries.get(variant);
+        if (entry == null) {
+            throw new IllegalArgumentException(String.format("The variant '%s' is not registered.", variant));
+        }
+        return entry;
+    }
+
+    /**
+     * Loads the word list of a variant.
+     */
+    static private JDictionary load(JVariant variant, Path path) throws IOException {
+        JDictionary dictionary;
+        if (JCompiledDictionary.isCompiled(path)) {
+            dictionary = JCompiledDictionary.open(path, variant.getCharset());
+        } else {
+            try (InputStream is = Files.newInputStream(path)) {
+                dictionary = JDictionary.fromStream(variant.getCharset(), is);
+            }
+            dictionary.perfectHash();
+        }
+
+        if (dictionary.getCharset() != variant.getCharset() || (dictionary.length() > 0 && dictionary.size() != variant.size())) {
+            throw new IOException(String.format("The word list '%s' is not of the variant '%s'.", path, variant));
+        }
+        return dictionary;
+    }
+
+    /**
+     * Holds the loading or loaded dictionary of a variant.
+     */
+    static private final class Entry {
+
+        private final JVariant _variant;
+        private final Path _path;
+        private final AtomicReference<FutureTask<JDictionary>> _task;
+
+        Entry(JVariant variant, Path path) {
+            _variant = variant;
+            _path = path;
+            _task = new AtomicReference<>(create());
+        }
+
+        private FutureTask<JDictionary> create() {
+            return new FutureTask<>(new Callable<JDictionary>() {
+                @Override
+                public JDictionary call() throws IOException {
+                    return load(_variant, _path);
+                }
+            });
+        }
+
+        FutureTask<JDictionary> task() {
+            return _task.get();
+        }
+
+        /**
+         * Returns the dictionary if it has been loaded, or null.
+         */
+        JDictionary dictionary() {
+            FutureTask<JDictionary> task = _task.get();
+            if (!task.isDone()) {
+                return null;
+            }
+            try {
+                return task.get();
+            } catch (InterruptedException | ExecutionException ex) {
+                return null;
+            }
+        }
+
+        /**
+         * Returns the dictionary, loading it on the calling thread unless another thread already is.
+         */
+        JDictionary get() throws IOException {
+            FutureTask<JDictionary> task = _task.get();
+            task.run();
+            try {
+                return task.get();
+            } catch (ExecutionException ex) {
+                _task.compareAndSet(task, create());
+                if (ex.getCause() instanceof IOException) {
+                    throw (IOException) ex.getCause();
+                }
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                if (ex.getCause() instanceof Error) {
+                    throw (Error) ex.getCause();
+                }
+                throw new IOException(ex.getCause());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException("The dictionary load was interrupted.", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ca.jotto.model;
+
+/**
+ * Represents a {@link JStrategy} that values a guess by the expected information of its score, in bits.
+ * <p>
+ * The secrets are bucketed by the score the guess would receive against each of them, and the guess is valued by the
+ * Shannon entropy of the bucket sizes.
+ */
+public final class JEntropyStrategy implements JStrategy {
+
+    @Override
+    public double evaluate(JDictionary dictionary, int guess, int[] secrets, int count, int[] buckets, double bound) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert secrets != null : "The provided array 'secrets' cannot be null";
+        assert count > 0 && count <= secrets.length : "The provided Integer 'count' is outside of the array";
+
+        for (int i = 0; i < count; i++) {
+            buckets[dictionary.score(guess, secrets[i])]++;
+        }
+
+        double sum = 0;
+        int outcomes = JFeedback.pack(dictionary.size(), dictionary.size()) + 1;
+        for (int f = 0; f < outcomes; f++) {
+            int size = buckets[f];
+            if (size != 0) {
+                sum += size * Math.log(size);
+                buckets[f] = 0;
+            }
+        }
+
+        return (Math.log(count) - sum / count) / Math.log(2);
+    }
+}
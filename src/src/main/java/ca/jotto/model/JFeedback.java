@@ -0,0 +1,203 @@
+package ca.jotto.model;
+
+/**
+ * Provides allocation-free scoring of a guess against a secret.
+ * <p>
+ * A score is packed into a single integer as {@code (exact << 4) | partial}, which fits within a byte for words of
+ * up to {@link #MAXIMUM_SIZE} characters. The partial count follows {@link JWordMatch#compareTo(String, String)}, in
+ * that a character which is not an exact match is counted at most once, regardless of how often it is repeated.
+ */
+public final class JFeedback {
+
+    /**
+     * The largest word size that can be represented by a packed score.
+     */
+    static public final int MAXIMUM_SIZE = 15;
+
+    /**
+     * The number of distinct values a packed score can take.
+     */
+    static public final int CAPACITY = (MAXIMUM_SIZE << 4) + MAXIMUM_SIZE + 1;
+
+    private JFeedback() {
+    }
+
+    /**
+     * Packs the exact and partial match counts into a single score.
+     *
+     * @param exact   Number of exact character matches.
+     * @param partial Number of partial character matches.
+     * @return The packed score.
+     */
+    static public int pack(int exact, int partial) {
+        assert exact >= 0 && exact <= MAXIMUM_SIZE : "The provided Integer 'exact' is outside of the packed range";
+        assert partial >= 0 && partial <= MAXIMUM_SIZE : "The provided Integer 'partial' is outside of the packed range";
+
+        return (exact << 4) | partial;
+    }
+
+    /**
+     * Returns the number of exact character matches of a packed score.
+     *
+     * @param feedback The packed score.
+     * @return Number of exact character matches.
+     */
+    static public int exact(int feedback) {
+        return (feedback >>> 4) & 0xF;
+    }
+
+    /**
+     * Returns the number of partial character matches of a packed score.
+     *
+     * @param feedback The packed score.
+     * @return Number of partial character matches.
+     */
+    static public int partial(int feedback) {
+        return feedback & 0xF;
+    }
+
+    /**
+     * Scores two words that have been encoded as character set indices.
+     *
+     * @param guess        The encoded characters of the guess.
+     * @param guessOffset  The offset of the guess within the array.
+     * @param secret       The encoded characters of the secret.
+     * @param secretOffset The offset of the secret within the array.
+     * @param size         The size of both words.
+     * @return The packed score of the guess.
+     * @throws IllegalArgumentException If the size exceeds {@link #MAXIMUM_SIZE}.
+     */
+    static public int score(byte[] guess, int guessOffset, byte[] secret, int secretOffset, int size) {
+        assert size > 0 : "The provided Integer 'size' must be greater than zero";
+        if (size > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException(String.format("The word size %d exceeds the packed range of %d.", size, MAXIMUM_SIZE));
+        }
+
+        int exact = 0;
+        int wide = 0;
+        long guessMask = 0;
+        long secretMask = 0;
+        for (int i = 0; i < size; i++) {
+            int g = guess[guessOffset + i] & 0xFF;
+            int s = secret[secretOffset + i] & 0xFF;
+            if (g == s) {
+                exact++;
+            } else {
+                guessMask |= 1L << g;
+                secretMask |= 1L << s;
+                wide |= g | s;
+            }
+        }
+
+        if (wide < Long.SIZE) {
+            return (exact << 4) | Long.bitCount(guessMask & secretMask);
+        }
+
+        int partial = 0;
+        for (int i = 0; i < size; i++) {
+            byte g = guess[guessOffset + i];
+            if (g == secret[secretOffset + i] || repeated(guess, guessOffset, secret, secretOffset, i)) {
+                continue;
+            }
+
+            for (int r = 0; r < size; r++) {
+                if (secret[secretOffset + r] == g && guess[guessOffset + r] != g) {
+                    partial++;
+                    break;
+                }
+            }
+        }
+
+        return (exact << 4) | partial;
+    }
+
+    /**
+     * Scores two words without encoding them.
+     *
+     * @param guess  The guessed word.
+     * @param secret The secret word.
+     * @return The packed score of the guess.
+     * @throws IllegalArgumentException If the words are longer than {@link #MAXIMUM_SIZE}.
+     */
+    static public int score(CharSequence guess, CharSequence secret) {
+        assert guess != null : "The provided CharSequence 'guess' cannot be null";
+        assert secret != null : "The provided CharSequence 'secret' cannot be null";
+        assert guess.length() == secret.length() : "The provided CharSequence 'guess' must equal the secret length";
+
+        int size = guess.length();
+        if (size > MAXIMUM_SIZE) {
+            throw new IllegalArgumentException(String.format("The word size %d exceeds the packed range of %d.", size, MAXIMUM_SIZE));
+        }
+
+        int exact = 0;
+        int partial = 0;
+        for (int i = 0; i < size; i++) {
+            if (guess.charAt(i) == secret.charAt(i)) {
+                exact++;
+            } else if (shared(guess, secret, i)) {
+                partial++;
+            }
+        }
+
+        return pack(exact, partial);
+    }
+
+    /**
+     * Computes the per-character similarity between two words.
+     *
+     * @param guess  The guessed word.
+     * @param secret The secret word.
+     * @return A {@link JWordMatch} array whose elements indicates the similarity relationship between the two words.
+     */
+    static public JWordMatch[] matches(CharSequence guess, CharSequence secret) {
+        assert guess != null : "The provided CharSequence 'guess' cannot be null";
+        assert secret != null : "The provided CharSequence 'secret' cannot be null";
+        assert guess.length() == secret.length() : "The provided CharSequence 'guess' must equal the secret length";
+
+        JWordMatch[] matches = new JWordMatch[guess.length()];
+        for (int i = 0; i < matches.length; i++) {
+            if (guess.charAt(i) == secret.charAt(i)) {
+                matches[i] = JWordMatch.EXACT;
+            } else if (shared(guess, secret, i)) {
+                matches[i] = JWordMatch.PARTIAL;
+            } else {
+                matches[i] = JWordMatch.NONE;
+            }
+        }
+
+        return matches;
+    }
+
+    /**
+     * Determines if the non-exact guess character at the index is the first occurrence of its character, and that
+     * the character occurs at a non-exact position of the secret.
+     */
+    static private boolean shared(CharSequence guess, CharSequence secret, int index) {
+        char ch = guess.charAt(index);
+        for (int j = 0; j < index; j++) {
+            if (guess.charAt(j) == ch && secret.charAt(j) != ch) {
+                return false;
+            }
+        }
+
+        for (int r = 0; r < secret.length(); r++) {
+            if (secret.charAt(r) == ch && guess.charAt(r) != ch) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if the encoded guess character at the index occurred earlier at a non-exact position.
+     */
+    static private boolean repeated(byte[] guess, int guessOffset, byte[] secret, int secretOffset, int index) {
+        byte g = guess[guessOffset + index];
+        for (int j = 0; j < index; j++) {
+            if (guess[guessOffset + j] == g && secret[secretOffset + j] != g) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
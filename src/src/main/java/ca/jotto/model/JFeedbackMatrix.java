@@ -0,0 +1,266 @@
+package ca.jotto.model;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.zip.CRC32;
+
+/**
+ * Represents the packed {@link JFeedback} score of every guess against every secret of a {@link JDictionary}.
+ * <p>
+ * Scores are held as one byte per pair, in rows ordered by the guess index. A matrix can be written to a cache file
+ * and mapped back into memory, so that processes on the same host share a single page-cached copy. The file starts
+ * with a fixed {@link #HEADER} byte header, in big-endian order:
+ * <pre>
+ * int  magic        'JFBM'
+ * int  version      {@link #VERSION}
+ * int  length       number of words
+ * int  size         length of each word
+ * long fingerprint  {@link JDictionary#fingerprint()} of the scored dictionary
+ * int  checksum     CRC-32 of the scores
+ * int  reserved     zero
+ * </pre>
+ * followed by length * length bytes of scores.
+ */
+public final class JFeedbackMatrix {
+
+    /**
+     * The largest number of words a matrix can hold.
+     */
+    static public final int MAXIMUM_LENGTH = 46340;
+
+    /**
+     * The version of the cache file format.
+     */
+    static public final int VERSION = 1;
+
+    /**
+     * The size of the cache file header in bytes.
+     */
+    static public final int HEADER = 32;
+
+    static private final int MAGIC = 0x4A46424D;
+    static private final int ROWS_PER_TASK = 16;
+
+    private final int _length;
+    private final ByteBuffer _data;
+
+    /**
+     * Initializes a new instance of the {@link JFeedbackMatrix} class over existing scores.
+     *
+     * @param length The number of words in the dictionary.
+     * @param data   The scores, holding length * length bytes from position zero.
+     */
+    JFeedbackMatrix(int length, ByteBuffer data) {
+        assert length >= 0 && length <= MAXIMUM_LENGTH : "The provided Integer 'length' is outside of the matrix range";
+        assert data != null : "The provided ByteBuffer 'data' cannot be null";
+        assert data.capacity() >= length * length : "The provided ByteBuffer 'data' is smaller than the matrix";
+
+        _length = length;
+        _data = data;
+    }
+
+    /**
+     * Builds the matrix of a {@link JDictionary}, scoring the rows in parallel on the common pool.
+     *
+     * @param dictionary The dictionary to score.
+     * @return The matrix of scores between every pair of words.
+     */
+    static public JFeedbackMatrix build(JDictionary dictionary) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert dictionary.length() <= MAXIMUM_LENGTH : "The provided JDictionary 'dictionary' exceeds the matrix range";
+        assert dictionary.size() <= JFeedback.MAXIMUM_SIZE : "The provided JDictionary 'dictionary' words exceed the packed range";
+
+        int length = dictionary.length();
+        byte[] data = new byte[length * length];
+        ForkJoinPool.commonPool().invoke(new Rows(dictionary.letters(), dictionary.size(), length, data, 0, length));
+
+        return new JFeedbackMatrix(length, ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Maps a cache file of the matrix of a {@link JDictionary} into memory.
+     *
+     * @param path       The path of the cache file.
+     * @param dictionary The dictionary the matrix must have been built from.
+     * @return The mapped matrix, or null if the file is missing, was built from another dictionary or is corrupt.
+     * @throws IOException An error occurred while attempting to read the file.
+     */
+    static public JFeedbackMatrix open(Path path, JDictionary dictionary) throws IOException {
+        assert path != null : "The provided Path 'path' cannot be null";
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        int length = dictionary.length();
+        long scores = (long) length * length;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER + scores) {
+                return null;
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.BIG_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    return null;
+                }
+            }
+            ((Buffer) header).flip();
+
+            if (header.getInt() != MAGIC
+                    || header.getInt() != VERSION
+                    || header.getInt() != length
+                    || header.getInt() != dictionary.size()
+                    || header.getLong() != dictionary.fingerprint()) {
+                return null;
+            }
+            int checksum = header.getInt();
+
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, HEADER, scores);
+            if (checksum(data) != checksum) {
+                return null;
+            }
+
+            return new JFeedbackMatrix(length, data);
+        }
+    }
+
+    /**
+     * Writes the matrix to a cache file, replacing any existing file atomically where the file system permits.
+     *
+     * @param path       The path of the cache file.
+     * @param dictionary The dictionary the matrix was built from.
+     * @throws IOException An error occurred while attempting to write the file.
+     */
+    public void write(Path path, JDictionary dictionary) throws IOException {
+        assert path != null : "The provided Path 'path' cannot be null";
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert dictionary.length() == _length : "The provided JDictionary 'dictionary' does not match the matrix";
+
+        ByteBuffer data = scores();
+        ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(_length)
+                .putInt(dictionary.size())
+                .putLong(dictionary.fingerprint())
+                .putInt(checksum(data))
+                .putInt(0);
+        ((Buffer) header).flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Returns the number of words in the matrix.
+     *
+     * @return The number of rows and columns of the matrix.
+     */
+    public int length() {
+        return _length;
+    }
+
+    /**
+     * Returns the packed score of a guess against a secret.
+     *
+     * @param guess  The index of the guessed word.
+     * @param secret The index of the secret word.
+     * @return The packed score of the guess.
+     */
+    public int get(int guess, int secret) {
+        assert guess >= 0 && guess < _length : "The provided Integer 'guess' is outside of the matrix";
+        assert secret >= 0 && secret < _length : "The provided Integer 'secret' is outside of the matrix";
+
+        return _data.get(guess * _length + secret) & 0xFF;
+    }
+
+    /**
+     * Returns a view of the scores, in rows ordered by the guess index.
+     *
+     * @return The scores of the matrix.
+     */
+    private ByteBuffer scores() {
+        ByteBuffer data = _data.duplicate();
+        ((Buffer) data).clear().limit(_length * _length);
+        return data;
+    }
+
+    /**
+     * Computes the CRC-32 of the remaining bytes of a buffer without moving its position.
+     */
+    static private int checksum(ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Scores a range of matrix rows, splitting the range until it is small enough to score directly.
+     */
+    static private final class Rows extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] _letters;
+        private final int _size;
+        private final int _length;
+        private final byte[] _data;
+        private final int _from;
+        private final int _to;
+
+        Rows(byte[] letters, int size, int length, byte[] data, int from, int to) {
+            _letters = letters;
+            _size = size;
+            _length = length;
+            _data = data;
+            _from = from;
+            _to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (_to - _from > ROWS_PER_TASK) {
+                int middle = (_from + _to) >>> 1;
+                invokeAll(new Rows(_letters, _size, _length, _data, _from, middle),
+                        new Rows(_letters, _size, _length, _data, middle, _to));
+                return;
+            }
+
+            for (int guess = _from; guess < _to; guess++) {
+                int row = guess * _length;
+                for (int secret = 0; secret < _length; secret++) {
+                    _data[row + secret] = (byte) JFeedback.score(_letters, guess * _size, _letters, secret * _size, _size);
+                }
+            }
+        }
+    }
+}
@@ -31,6 +31,48 @@ public final class JGuess {
         _exact = exact;
     }
 
+    /**
+     * Initializes a guess based on the text and the secret, keeping only the character matches against the secret.
+     *
+     * @param guess   The guessed string.
+     * @param secret  The secret string the guess was scored against.
+     * @param exact   Number of exact character matches.
+     * @param partial Number of partial character matches.
+     */
+    JGuess(String guess, String secret, int exact, int partial) {
+        assert guess != null : "The provided String 'guess' cannot be null";
+        assert secret != null : "The provided String 'secret' cannot be null";
+        assert guess.length() == secret.length() : "The provided length of String 'guess' must equal the length of String 'secret'";
+        assert exact >= 0 : "The provided Integer 'exact' cannot be less than zero";
+        assert partial >= 0 : "The provided Integer 'partial' cannot be less than zero";
+
+        _guess = guess;
+        _matches = JFeedback.matches(guess, secret);
+        _partial = partial;
+        _exact = exact;
+    }
+
+    /**
+     * Initializes a guess based on the text and score alone, without character matches.
+     * <p>
+     * Used where only the guessed words and scores are read back, such as the history of a simulated match; the
+     * character matches of such a guess are not available.
+     *
+     * @param guess   The guessed string.
+     * @param exact   Number of exact character matches.
+     * @param partial Number of partial character matches.
+     */
+    JGuess(String guess, int exact, int partial) {
+        assert guess != null : "The provided String 'guess' cannot be null";
+        assert exact >= 0 : "The provided Integer 'exact' cannot be less than zero";
+        assert partial >= 0 : "The provided Integer 'partial' cannot be less than zero";
+
+        _guess = guess;
+        _matches = null;
+        _partial = partial;
+        _exact = exact;
+    }
+
     /**
      * Returns the guessed phrase.
      *
@@ -46,7 +88,7 @@ public final class JGuess {
      * @return true if guess is equal to the {@link JSecret}; false otherwise.
      */
     public Boolean correct() {
-        return _exact == _matches.length;
+        return _exact == _guess.length();
     }
 
     /**
@@ -80,8 +122,12 @@ public final class JGuess {
      * Returns an array of character matches that indicates their similarity.
      *
      * @return The matches of each character within the guess.
+     * @throws IllegalStateException If the guess was recorded without its character matches.
      */
     public JWordMatch[] matches() {
+        if (_matches == null) {
+            throw new IllegalStateException("The character matches of the guess are not known.");
+        }
         return _matches.clone();
     }
 
@@ -90,11 +136,15 @@ public final class JGuess {
      *
      * @param index The index of the word match.
      * @return The match at the specified index of this {@link JGuess}.
+     * @throws IllegalStateException If the guess was recorded without its character matches.
      */
     public JWordMatch matchAt(int index) {
         assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
-        assert index < _matches.length : "The provided Integer 'index' exceed the word size";
+        assert index < _guess.length() : "The provided Integer 'index' exceed the word size";
 
+        if (_matches == null) {
+            throw new IllegalStateException("The character matches of the guess are not known.");
+        }
         return _matches[index];
     }
 
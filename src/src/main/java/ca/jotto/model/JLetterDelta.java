@@ -0,0 +1,134 @@
+package ca.jotto.model;
+
+/**
+ * Represents the letters whose status changed with a single guess of a match.
+ * <p>
+ * The letters are held as bitsets over the indices of the character set, one of the letters eliminated, one of the
+ * letters known to be present at an unknown position, and one of the letters discovered at a known position, so that
+ * a guess that settles many letters is reported with a single event. A discovered letter is reported again when
+ * another of its positions in the secret becomes known.
+ */
+public final class JLetterDelta {
+
+    private final JCharset _charset;
+    private final long[] _eliminated;
+    private final long[] _present;
+    private final long[] _discovered;
+    private final int _length;
+
+    /**
+     * Initializes a new instance of the {@link JLetterDelta} class.
+     *
+     * @param charset    The character set of the match.
+     * @param eliminated The bitset of the indices of the eliminated letters.
+     * @param present    The bitset of the indices of the letters present at an unknown position.
+     * @param discovered The bitset of the indices of the letters discovered at a known position.
+     */
+    JLetterDelta(JCharset charset, long[] eliminated, long[] present, long[] discovered) {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+        assert eliminated != null : "The provided long[] 'eliminated' cannot be null";
+        assert present != null : "The provided long[] 'present' cannot be null";
+        assert discovered != null : "The provided long[] 'discovered' cannot be null";
+        assert eliminated.length == present.length && present.length == discovered.length
+                : "The provided bitsets must be of the same length";
+
+        _charset = charset;
+        _eliminated = eliminated;
+        _present = present;
+        _discovered = discovered;
+
+        int length = 0;
+        for (int i = 0; i < eliminated.length; i++) {
+            assert (eliminated[i] & present[i]) == 0 && (eliminated[i] & discovered[i]) == 0
+                    && (present[i] & discovered[i]) == 0 : "A letter can only have one status";
+            length += Long.bitCount(eliminated[i]) + Long.bitCount(present[i]) + Long.bitCount(discovered[i]);
+        }
+        _length = length;
+    }
+
+    /**
+     * Returns the character set of the match.
+     *
+     * @return The character set the letters are indexed by.
+     */
+    public JCharset getCharset() {
+        return _charset;
+    }
+
+    /**
+     * Returns the number of letters that changed.
+     *
+     * @return The number of eliminated, present and discovered letters.
+     */
+    public int length() {
+        return _length;
+    }
+
+    /**
+     * Determines whether no letter changed.
+     *
+     * @return true if the delta holds no letters; false otherwise.
+     */
+    public boolean isEmpty() {
+        return _length == 0;
+    }
+
+    /**
+     * Returns the index of the first changed letter at or after an index of the character set.
+     *
+     * @param index The index of the character set to start from.
+     * @return The index of the next changed letter, or -1 if there is none.
+     */
+    public int next(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+
+        int word = index >>> 6;
+        if (word >= _eliminated.length) {
+            return -1;
+        }
+
+        long bits = (_eliminated[word] | _present[word] | _discovered[word]) & (-1L << index);
+        while (bits == 0) {
+            if (++word == _eliminated.length) {
+                return -1;
+            }
+            bits = _eliminated[word] | _present[word] | _discovered[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Returns the new status of the letter at an index of the character set.
+     *
+     * @param index The index of the letter within the character set.
+     * @return The status the letter changed to, or {@link JLetterStatus#NONE} if it did not change.
+     */
+    public JLetterStatus status(int index) {
+        assert index >= 0 : "The provided Integer 'index' cannot be less than zero";
+        assert index < _charset.length() : "The provided Integer 'index' exceeds the character set";
+
+        long bit = 1L << index;
+        if ((_eliminated[index >>> 6] & bit) != 0) {
+            return JLetterStatus.ELIMINATED;
+        }
+        if ((_present[index >>> 6] & bit) != 0) {
+            return JLetterStatus.PRESENT;
+        }
+        if ((_discovered[index >>> 6] & bit) != 0) {
+            return JLetterStatus.DISCOVERED;
+        }
+        return JLetterStatus.NONE;
+    }
+
+    /**
+     * Returns the new status of a letter.
+     *
+     * @param letter The letter of the character set.
+     * @return The status the letter changed to, or {@link JLetterStatus#NONE} if it did not change.
+     */
+    public JLetterStatus status(char letter) {
+        assert _charset.contains(letter) : "The provided Character 'letter' is not within the character set";
+
+        return status(_charset.get(letter));
+    }
+}
@@ -13,7 +13,11 @@ public enum JLetterStatus {
      */
     ELIMINATED,
     /**
-     * The letter has been verified to exist within the secret in the {@link JMatch}.
+     * The letter has been verified to exist within the secret in the {@link JMatch}, at a position that is not known.
+     */
+    PRESENT,
+    /**
+     * The letter has been verified to exist at a known position of the secret in the {@link JMatch}.
      */
     DISCOVERED
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ public final class JMatch {
     private final int _maximumAttempts;
 
     private JGameState _state;
+    private JCandidateSet _candidates;
     private int _attempts = 0;
 
     /**
@@ -105,7 +106,7 @@ public final class JMatch {
             throw new JottoStateException("The game state cannot be set to the current state");
         }
 
-        _game.getEventMap().onGameStateChanged(_game, _state, targetState);
+        _game.getEventMap().onGameStateChanged(_game, this, _state, targetState);
         _state = targetState;
 
         switch (targetState) {
@@ -156,6 +157,15 @@ public final class JMatch {
         return _history;
     }
 
+    /**
+     * Returns the jotto game of the match.
+     *
+     * @return The game the match is played over.
+     */
+    public Jotto getGame() {
+        return _game;
+    }
+
     /***
      * Returns computed historical data for the {@link JMatch}.
      *
@@ -165,6 +175,30 @@ public final class JMatch {
         return _analytics;
     }
 
+    /**
+     * Returns the dictionary words that are still consistent with the guesses of the {@link JMatch}.
+     * <p>
+     * The match keeps its own set, created on first use and narrowed after every subsequent guess, and returns a copy
+     * of it, so that changes to the returned set do not affect the match.
+     *
+     * @return A copy of the remaining candidate secrets.
+     */
+    public JCandidateSet getCandidates() {
+        return new JCandidateSet(candidates());
+    }
+
+    /**
+     * Returns the candidate secrets of the match, creating them on first use.
+     */
+    private JCandidateSet candidates() {
+        if (_candidates == null) {
+            JCandidateSet candidates = new JCandidateSet(_game.getDictionary());
+            candidates.narrow(_history);
+            _candidates = candidates;
+        }
+        return _candidates;
+    }
+
     /**
      * Returns the secret word of the game.
      *
@@ -200,7 +234,11 @@ public final class JMatch {
         _history.add(guess);
         _attempts++;
 
-        _analytics.compute(_game, _game.getEventMap(), _history);
+        if (_candidates != null) {
+            _candidates.narrow(guess);
+        }
+
+        _analytics.update(this, _game.getEventMap(), guess, _candidates);
 
         _game.getEventMap().onTurnGuess(_game, guess);
 
@@ -0,0 +1,34 @@
+package ca.jotto.model;
+
+/**
+ * Represents a {@link JStrategy} that values a guess by the size of the largest group of secrets it leaves, so that
+ * the worst case of the guess is as small as possible.
+ * <p>
+ * The value of a guess is the negated size of its largest bucket. Counting stops as soon as a bucket grows beyond the
+ * largest bucket of the best guess found so far.
+ */
+public final class JMinimaxStrategy implements JStrategy {
+
+    @Override
+    public double evaluate(JDictionary dictionary, int guess, int[] secrets, int count, int[] buckets, double bound) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert secrets != null : "The provided array 'secrets' cannot be null";
+        assert count > 0 && count <= secrets.length : "The provided Integer 'count' is outside of the array";
+
+        long limit = bound == Double.NEGATIVE_INFINITY ? Long.MAX_VALUE : (long) -bound;
+        int largest = 0;
+        for (int i = 0; i < count && largest <= limit; i++) {
+            int size = ++buckets[dictionary.score(guess, secrets[i])];
+            if (size > largest) {
+                largest = size;
+            }
+        }
+
+        int outcomes = JFeedback.pack(dictionary.size(), dictionary.size()) + 1;
+        for (int f = 0; f < outcomes; f++) {
+            buckets[f] = 0;
+        }
+
+        return -largest;
+    }
+}
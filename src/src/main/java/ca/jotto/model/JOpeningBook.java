@@ -0,0 +1,201 @@
+package ca.jotto.model;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Represents the precomputed first guess, and the second guess for each score of the first guess, of a
+ * {@link JSolver} for the secrets of a single difficulty.
+ * <p>
+ * A book is written as a big-endian header of magic 'JOBK', version, dictionary fingerprint, difficulty, first guess
+ * and 16-bit entry count, followed by one (score byte, guess index) entry per score that needs a second guess.
+ */
+public final class JOpeningBook {
+
+    /**
+     * The version of the book file format.
+     */
+    static public final int VERSION = 1;
+
+    static private final int MAGIC = 0x4A4F424B;
+
+    private final long _fingerprint;
+    private final int _difficulty;
+    private final int _first;
+    private final int[] _second;
+
+    /**
+     * Initializes a new instance of the {@link JOpeningBook} class.
+     *
+     * @param fingerprint The fingerprint of the dictionary.
+     * @param difficulty  The difficulty of the secrets.
+     * @param first       The index of the first guess.
+     * @param second      The index of the second guess by packed score of the first guess, or -1 when there is none.
+     */
+    private JOpeningBook(long fingerprint, int difficulty, int first, int[] second) {
+        _fingerprint = fingerprint;
+        _difficulty = difficulty;
+        _first = first;
+        _second = second;
+    }
+
+    /**
+     * Generates the book of a solver for the secrets of a difficulty.
+     *
+     * @param solver     The solver that chooses the guesses.
+     * @param difficulty The difficulty of the secrets.
+     * @return The generated book.
+     */
+    static public JOpeningBook generate(JSolver solver, int difficulty) {
+        assert solver != null : "The provided JSolver 'solver' cannot be null";
+        assert difficulty >= 0 : "The provided Integer 'difficulty' cannot less than zero";
+
+        JDictionary dictionary = solver.getDictionary();
+        JCandidateSet candidates = new JCandidateSet(dictionary, difficulty);
+        int[] second = new int[JFeedback.CAPACITY];
+        Arrays.fill(second, -1);
+
+        int first = solver.suggest(candidates);
+        if (first != -1) {
+            int won = JFeedback.pack(dictionary.size(), 0);
+            for (int secret = candidates.next(0); secret != -1; secret = candidates.next(secret + 1)) {
+                int feedback = dictionary.score(first, secret);
+                if (feedback != won && second[feedback] == -1) {
+                    JCandidateSet remaining = new JCandidateSet(candidates);
+                    remaining.narrow(first, feedback);
+                    second[feedback] = solver.suggest(remaining);
+                }
+            }
+        }
+
+        return new JOpeningBook(dictionary.fingerprint(), difficulty, first, second);
+    }
+
+    /**
+     * Reads a book that was written by {@link #write(OutputStream)}.
+     *
+     * @param dictionary  The dictionary the book must have been generated from.
+     * @param inputStream The input stream containing the book.
+     * @return The book, or null if it was generated from another dictionary.
+     * @throws IOException An error occurred while attempting to read the book, or the book is malformed.
+     */
+    static public JOpeningBook read(JDictionary dictionary, InputStream inputStream) throws IOException {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert inputStream != null : "The provided InputStream 'inputStream' cannot be null";
+
+        DataInputStream input = new DataInputStream(inputStream);
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            throw new IOException("The input is not an opening book of a supported version.");
+        }
+
+        long fingerprint = input.readLong();
+        if (fingerprint != dictionary.fingerprint()) {
+            return null;
+        }
+
+        int difficulty = input.readInt();
+        int first = input.readInt();
+        if (first < -1 || first >= dictionary.length()) {
+            throw new IOException("The opening book refers to a word outside of the dictionary.");
+        }
+
+        int entries = input.readUnsignedShort();
+
+        int[] second = new int[JFeedback.CAPACITY];
+        Arrays.fill(second, -1);
+        for (int i = 0; i < entries; i++) {
+            int feedback = input.readUnsignedByte();
+            second[feedback] = input.readInt();
+            if (second[feedback] < 0 || second[feedback] >= dictionary.length()) {
+                throw new IOException("The opening book refers to a word outside of the dictionary.");
+            }
+        }
+
+        return new JOpeningBook(fingerprint, difficulty, first, second);
+    }
+
+    /**
+     * Writes the book to a stream.
+     *
+     * @param outputStream The output stream to write the book to.
+     * @throws IOException An error occurred while attempting to write the book.
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        assert outputStream != null : "The provided OutputStream 'outputStream' cannot be null";
+
+        int entries = 0;
+        for (int guess : _second) {
+            if (guess != -1) {
+                entries++;
+            }
+        }
+
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(_fingerprint);
+        output.writeInt(_difficulty);
+        output.writeInt(_first);
+        output.writeShort(entries);
+        for (int feedback = 0; feedback < _second.length; feedback++) {
+            if (_second[feedback] != -1) {
+                output.writeByte(feedback);
+                output.writeInt(_second[feedback]);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Returns the difficulty of the secrets the book was generated for.
+     *
+     * @return The difficulty of the book.
+     */
+    public int difficulty() {
+        return _difficulty;
+    }
+
+    /**
+     * Returns the first guess.
+     *
+     * @return The index of the first guess, or -1 if there were no secrets of the difficulty.
+     */
+    public int first() {
+        return _first;
+    }
+
+    /**
+     * Returns the second guess after the first guess received a score.
+     *
+     * @param feedback The packed {@link JFeedback} score of the first guess.
+     * @return The index of the second guess, or -1 if the book has none.
+     */
+    public int second(int feedback) {
+        assert feedback >= 0 && feedback < JFeedback.CAPACITY : "The provided Integer 'feedback' is outside of the packed range";
+
+        return _second[feedback];
+    }
+
+    /**
+     * Returns the guess of the book for a history of guesses.
+     *
+     * @param dictionary The dictionary of the book.
+     * @param history    The guesses of the match.
+     * @return The index of the next guess, or -1 if the history is beyond the book.
+     */
+    public int suggest(JDictionary dictionary, JHistory history) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert history != null : "The provided JHistory 'history' cannot be null";
+
+        if (history.length() == 0) {
+            return _first;
+        }
+        if (history.length() == 1 && _first != -1) {
+            JGuess guess = history.get(0);
+            if (guess.guess().equals(dictionary.word(_first))) {
+                return _second[JFeedback.pack(guess.exact(), guess.partial())];
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,297 @@
+package ca.jotto.model;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Represents a minimal perfect hash of the words of a {@link JDictionary}, built by hashing and displacing buckets.
+ * <p>
+ * Every word is hashed once to 64 bits. The upper half picks one of length / {@link #BUCKET_SIZE} buckets, and each
+ * bucket holds the displacement that moves all of its words onto distinct free slots; buckets are placed from the
+ * largest to the smallest. A lookup is a single probe of the slot of a word followed by one comparison of its letters,
+ * so a miss never searches.
+ * <p>
+ * The displacements are not compressed: each is a 32-bit int shared by a bucket, about 8 bits per word. The slots are
+ * translated to word indices through a table of 32-bit ints, so that indices keep the insertion order of the
+ * dictionary that the feedback matrix, candidate sets and difficulty tables are built on. The table costs another 32
+ * bits per word, about 40 bits per word in total, as reported by {@link #totalBitsPerWord()}.
+ * <p>
+ * A perfect hash is written after a compiled dictionary as, in big-endian order:
+ * <pre>
+ * long fingerprint          {@link JDictionary#fingerprint()} of the hashed dictionary
+ * int  buckets              number of buckets
+ * int  displacement[buckets]
+ * int  index[length]        word index of each slot
+ * </pre>
+ */
+public final class JPerfectHash {
+
+    /**
+     * The average number of words of a bucket.
+     */
+    static public final int BUCKET_SIZE = 4;
+
+    static private final int MAXIMUM_DISPLACEMENT = 1 << 24;
+
+    private final int[] _displacements;
+    private final int[] _indices;
+
+    private JPerfectHash(int[] displacements, int[] indices) {
+        _displacements = displacements;
+        _indices = indices;
+    }
+
+    /**
+     * Builds the perfect hash of the words of a dictionary.
+     *
+     * @param dictionary The dictionary to hash.
+     * @return The perfect hash of the dictionary.
+     * @throws IllegalStateException Two words of the dictionary have the same 64-bit hash.
+     */
+    static public JPerfectHash build(JDictionary dictionary) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+
+        int length = dictionary.length();
+        int size = dictionary.size();
+        byte[] letters = dictionary.letters();
+        int buckets = Math.max(1, (length + BUCKET_SIZE - 1) / BUCKET_SIZE);
+
+        long[] hashes = new long[length];
+        int[] starts = new int[buckets + 1];
+        for (int i = 0; i < length; i++) {
+            hashes[i] = hash(letters, i * size, size);
+            starts[bucket(hashes[i], buckets) + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            starts[b + 1] += starts[b];
+        }
+        int[] members = new int[length];
+        int[] next = Arrays.copyOf(starts, buckets);
+        for (int i = 0; i < length; i++) {
+            members[next[bucket(hashes[i], buckets)]++] = i;
+        }
+
+        // Buckets are placed from the largest, while most slots are still free
+        Integer[] order = new Integer[buckets];
+        for (int b = 0; b < buckets; b++) {
+            order[b] = b;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return (starts[b + 1] - starts[b]) - (starts[a + 1] - starts[a]);
+            }
+        });
+
+        int[] displacements = new int[buckets];
+        int[] indices = new int[length];
+        boolean[] taken = new boolean[length];
+        int[] slots = new int[64];
+        for (int bucket : order) {
+            int from = starts[bucket];
+            int count = starts[bucket + 1] - from;
+            if (count == 0) {
+                continue;
+            }
+            if (count > slots.length) {
+                slots = new int[count];
+            }
+
+            int displacement = 0;
+            while (!place(hashes, members, from, count, displacement, taken, slots)) {
+                if (++displacement == MAXIMUM_DISPLACEMENT) {
+                    throw new IllegalStateException("The dictionary contains words with the same hash.");
+                }
+            }
+
+            displacements[bucket] = displacement;
+            for (int k = 0; k < count; k++) {
+                taken[slots[k]] = true;
+                indices[slots[k]] = members[from + k];
+            }
+        }
+
+        return new JPerfectHash(displacements, indices);
+    }
+
+    /**
+     * Reads a perfect hash from a buffer, positioned after the compiled dictionary it belongs to.
+     *
+     * @param buffer     The buffer containing the perfect hash.
+     * @param dictionary The dictionary the perfect hash was built from.
+     * @return The perfect hash of the dictionary.
+     * @throws IOException The buffer does not contain a valid perfect hash of the dictionary.
+     */
+    static JPerfectHash read(ByteBuffer buffer, JDictionary dictionary) throws IOException {
+        int length = dictionary.length();
+        if (buffer.getLong() != dictionary.fingerprint()) {
+            throw new IOException("The perfect hash was built from another dictionary.");
+        }
+
+        int buckets = buffer.getInt();
+        if (buckets != Math.max(1, (length + BUCKET_SIZE - 1) / BUCKET_SIZE)
+                || 4L * (buckets + length) > buffer.remaining()) {
+            throw new IOException("The perfect hash header is malformed.");
+        }
+
+        int[] displacements = new int[buckets];
+        buffer.asIntBuffer().get(displacements);
+        ((Buffer) buffer).position(buffer.position() + 4 * buckets);
+        int[] indices = new int[length];
+        buffer.asIntBuffer().get(indices);
+        ((Buffer) buffer).position(buffer.position() + 4 * length);
+
+        boolean[] seen = new boolean[length];
+        for (int index : indices) {
+            if (index < 0 || index >= length || seen[index]) {
+                throw new IOException("The perfect hash does not map each slot to a distinct word.");
+            }
+            seen[index] = true;
+        }
+
+        return new JPerfectHash(displacements, indices);
+    }
+
+    /**
+     * Writes the perfect hash after a compiled dictionary.
+     *
+     * @param output     The stream to write to.
+     * @param dictionary The dictionary the perfect hash was built from.
+     * @throws IOException An error occurred while attempting to write the perfect hash.
+     */
+    void write(DataOutputStream output, JDictionary dictionary) throws IOException {
+        output.writeLong(dictionary.fingerprint());
+        output.writeInt(_displacements.length);
+        for (int displacement : _displacements) {
+            output.writeInt(displacement);
+        }
+        for (int index : _indices) {
+            output.writeInt(index);
+        }
+    }
+
+    /**
+     * Returns the index of a word within a dictionary, with a single probe.
+     *
+     * @param dictionary The dictionary the perfect hash was built from.
+     * @param word       The word to locate.
+     * @return The index of the word within the dictionary, or -1 if the word is not present.
+     */
+    int indexOf(JDictionary dictionary, CharSequence word) {
+        int size = dictionary.size();
+        if (word.length() != size || _indices.length == 0) {
+            return -1;
+        }
+
+        JCharset charset = dictionary.getCharset();
+        long hash = 0xcbf29ce484222325L;
+        for (int l = 0; l < size; l++) {
+            int letter = charset.get(word.charAt(l));
+            if (letter == -1) {
+                return -1;
+            }
+            hash = (hash ^ letter) * 0x100000001b3L;
+        }
+
+        // Every character was mapped by the hashing pass, so the probed word is compared by its own characters
+        int index = _indices[slot(hash, _displacements[bucket(hash, _displacements.length)], _indices.length)];
+        byte[] letters = dictionary.letters();
+        for (int l = 0, offset = index * size; l < size; l++) {
+            if (charset.at(letters[offset + l] & 0xFF) != word.charAt(l)) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of bits per word taken by the displacements, excluding the slot table. As each displacement is
+     * a 32-bit int, this is about 32 / {@link #BUCKET_SIZE} bits.
+     *
+     * @return The size of the hash function in bits per word.
+     * @see #totalBitsPerWord()
+     */
+    public double bitsPerWord() {
+        return _indices.length == 0 ? 0 : 32.0 * _displacements.length / _indices.length;
+    }
+
+    /**
+     * Returns the number of bits per word taken by the displacements and the slot table, which holds 32 bits for
+     * each word.
+     *
+     * @return The size of the perfect hash in bits per word.
+     */
+    public double totalBitsPerWord() {
+        return _indices.length == 0 ? 0 : 8.0 * footprint() / _indices.length;
+    }
+
+    /**
+     * Returns the number of bytes held by the displacements and the slot table.
+     *
+     * @return The size of the perfect hash in bytes.
+     */
+    long footprint() {
+        return 4L * (_displacements.length + _indices.length);
+    }
+
+    /**
+     * Returns the number of words of the perfect hash.
+     *
+     * @return The number of slots.
+     */
+    public int length() {
+        return _indices.length;
+    }
+
+    /**
+     * Tries to place the words of a bucket with a displacement, writing their slots if they are all free and distinct.
+     */
+    static private boolean place(long[] hashes, int[] members, int from, int count, int displacement, boolean[] taken,
+                                 int[] slots) {
+        for (int k = 0; k < count; k++) {
+            int slot = slot(hashes[members[from + k]], displacement, taken.length);
+            if (taken[slot]) {
+                return false;
+            }
+            for (int j = 0; j < k; j++) {
+                if (slots[j] == slot) {
+                    return false;
+                }
+            }
+            slots[k] = slot;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the FNV-1a hash of the letters of a word.
+     */
+    static private long hash(byte[] letters, int offset, int size) {
+        long hash = 0xcbf29ce484222325L;
+        for (int l = 0; l < size; l++) {
+            hash = (hash ^ (letters[offset + l] & 0xFF)) * 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static private int bucket(long hash, int buckets) {
+        return (int) Long.remainderUnsigned(mix(hash) >>> 32, buckets);
+    }
+
+    static private int slot(long hash, int displacement, int length) {
+        return (int) Long.remainderUnsigned(mix(hash + (displacement + 1) * 0x9E3779B97F4A7C15L), length);
+    }
+
+    /**
+     * Mixes the bits of a hash with the SplitMix64 finalizer.
+     */
+    static private long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+}
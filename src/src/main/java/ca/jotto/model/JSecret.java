@@ -20,6 +20,8 @@ public final class JSecret {
 
     /**
      * Guesses the specified input string against the secret specified in the constructor.
+     * <p>
+     * Words longer than {@link JFeedback#MAXIMUM_SIZE} cannot be packed, and are scored from their character matches.
      *
      * @param word The string to guess for a match.
      * @return An object that contains information about the guess.
@@ -28,20 +30,21 @@ public final class JSecret {
         assert word != null : "The provided String 'word' cannot be null";
         assert word.length() == _secret.length() : "The provided String 'word' must equal the secret word length";
 
-        int exact = 0;
-        int partial = 0;
-        JWordMatch[] matches = JWordMatch.compareTo(word, _secret.word());
-        for (int i = 0; i < _secret.length(); i++) {
-            switch (matches[i]) {
-                case EXACT:
+        if (word.length() > JFeedback.MAXIMUM_SIZE) {
+            int exact = 0;
+            int partial = 0;
+            JWordMatch[] matches = JFeedback.matches(word, _secret.word());
+            for (JWordMatch match : matches) {
+                if (match == JWordMatch.EXACT) {
                     exact++;
-                    break;
-                case PARTIAL:
+                } else if (match == JWordMatch.PARTIAL) {
                     partial++;
-                    break;
+                }
             }
+            return new JGuess(word, matches, exact, partial);
         }
 
-        return new JGuess(word, matches, exact, partial);
+        int feedback = JFeedback.score(word, _secret.word());
+        return new JGuess(word, _secret.word(), JFeedback.exact(feedback), JFeedback.partial(feedback));
     }
 }
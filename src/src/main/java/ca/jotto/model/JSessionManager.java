@@ -0,0 +1,316 @@
+package ca.jotto.model;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+/**
+ * Represents the matches of a jotto game served concurrently by a process.
+ * <p>
+ * Every match is played over the same {@link Jotto}, so the dictionary and event map are shared while each match
+ * holds only its own history and analytics. The listeners of the shared event map tell the matches apart by the
+ * {@link JMatch} that game, state and letter events carry. A match is identified by a compact id, whose low bits name
+ * the shard that holds it. Each shard is its own map with its own id sequence and metrics, and a thread opening a
+ * match picks a shard at random, so threads serving different matches rarely touch the same memory. A match that has
+ * not been accessed for the idle timeout is evicted by {@link #evict()}, which may be scheduled with
+ * {@link #scheduleEviction(ScheduledExecutorService)}.
+ * <p>
+ * A {@link JMatch} is not safe for use by multiple threads, so the requests of a single match must be serialized by
+ * the caller, such as by synchronizing on the match.
+ */
+public final class JSessionManager {
+
+    /**
+     * Marks a session as accessed, within the lock of its entry.
+     */
+    static private final BiFunction<Long, Session, Session> TOUCH = new BiFunction<Long, Session, Session>() {
+        @Override
+        public Session apply(Long id, Session session) {
+            session._accessed = System.nanoTime();
+            return session;
+        }
+    };
+
+    private final Jotto _jotto;
+    private final long _idleTimeout;
+    private final int _mask;
+    private final int _shift;
+    private final Shard[] _shards;
+
+    /**
+     * Initializes a new instance of the {@link JSessionManager} class.
+     *
+     * @param jotto       The jotto game of the matches.
+     * @param shards      The number of shards, which must be a power of two.
+     * @param idleTimeout The time a match may go without access before it is evicted.
+     * @param unit        The unit of the idle timeout.
+     */
+    public JSessionManager(Jotto jotto, int shards, long idleTimeout, TimeUnit unit) {
+        assert jotto != null : "The provided Jotto 'jotto' cannot be null";
+        assert shards >= 1 && Integer.bitCount(shards) == 1 : "The provided Integer 'shards' must be a power of two";
+        assert idleTimeout > 0 : "The provided Long 'idleTimeout' must be greater than zero";
+        assert unit != null : "The provided TimeUnit 'unit' cannot be null";
+
+        _jotto = jotto;
+        _idleTimeout = unit.toNanos(idleTimeout);
+        _mask = shards - 1;
+        _shift = Integer.numberOfTrailingZeros(shards);
+        _shards = new Shard[shards];
+        for (int i = 0; i < shards; i++) {
+            _shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Returns the jotto game of the matches.
+     *
+     * @return The game shared by every match.
+     */
+    public Jotto getJotto() {
+        return _jotto;
+    }
+
+    /**
+     * Opens a match with a random secret of a difficulty.
+     *
+     * @param difficulty The difficulty of the secret.
+     * @return The id of the match.
+     */
+    public long open(int difficulty) {
+        return open(_jotto.getDictionary().random(difficulty));
+    }
+
+    /**
+     * Opens a match with the specified secret.
+     *
+     * @param secret The secret of the match.
+     * @return The id of the match.
+     */
+    public long open(JWord secret) {
+        assert secret != null : "The provided JWord 'secret' cannot be null";
+
+        JMatch match = _jotto.construct(secret);
+        int index = ThreadLocalRandom.current().nextInt() & _mask;
+        Shard shard = _shards[index];
+
+        long id = (shard._next.getAndIncrement() << _shift) | index;
+        shard._sessions.put(id, new Session(match, System.nanoTime()));
+        shard._opened.increment();
+        return id;
+    }
+
+    /**
+     * Returns a match, marking it as accessed.
+     * <p>
+     * The access is recorded atomically with the lookup, so an eviction running at the same moment either removes the
+     * match first, and null is returned, or sees the access and keeps the match.
+     *
+     * @param id The id of the match.
+     * @return The match, or null if it was closed or evicted.
+     */
+    public JMatch get(long id) {
+        Session session = shardOf(id)._sessions.computeIfPresent(id, TOUCH);
+        return session == null ? null : session._match;
+    }
+
+    /**
+     * Closes a match, removing it from the manager.
+     *
+     * @param id The id of the match.
+     * @return The closed match, or null if it was already closed or evicted.
+     */
+    public JMatch close(long id) {
+        Shard shard = shardOf(id);
+        Session session = shard._sessions.remove(id);
+        if (session == null) {
+            return null;
+        }
+
+        shard._closed.increment();
+        return session._match;
+    }
+
+    /**
+     * Evicts the matches that have not been accessed within the idle timeout.
+     *
+     * @return The number of evicted matches.
+     */
+    public int evict() {
+        return evict(System.nanoTime());
+    }
+
+    /**
+     * Evicts the matches that have not been accessed within the idle timeout of a time. A match that looks idle is
+     * checked again atomically with its removal, so that it is kept if it was accessed in between.
+     */
+    int evict(final long now) {
+        final int[] evicted = new int[1];
+        BiFunction<Long, Session, Session> expire = new BiFunction<Long, Session, Session>() {
+            @Override
+            public Session apply(Long id, Session session) {
+                if (isIdle(session, now)) {
+                    evicted[0]++;
+                    return null;
+                }
+                return session;
+            }
+        };
+
+        for (Shard shard : _shards) {
+            int before = evicted[0];
+            for (Map.Entry<Long, Session> entry : shard._sessions.entrySet()) {
+                if (isIdle(entry.getValue(), now)) {
+                    shard._sessions.computeIfPresent(entry.getKey(), expire);
+                }
+            }
+            shard._evicted.add(evicted[0] - before);
+        }
+        return evicted[0];
+    }
+
+    private boolean isIdle(Session session, long now) {
+        return now - session._accessed > _idleTimeout;
+    }
+
+    /**
+     * Schedules the eviction of idle matches at a fraction of the idle timeout.
+     *
+     * @param executor The executor that evicts the matches.
+     * @return The scheduled eviction, which may be cancelled.
+     */
+    public ScheduledFuture<?> scheduleEviction(ScheduledExecutorService executor) {
+        assert executor != null : "The provided ScheduledExecutorService 'executor' cannot be null";
+
+        long period = Math.max(1, _idleTimeout / 4);
+        return executor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                evict();
+            }
+        }, period, period, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of shards.
+     *
+     * @return The number of shards of the manager.
+     */
+    public int shards() {
+        return _shards.length;
+    }
+
+    /**
+     * Returns the number of open matches.
+     *
+     * @return The number of matches in every shard.
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : _shards) {
+            size += shard._sessions.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of open matches of a shard.
+     *
+     * @param shard The index of the shard.
+     * @return The number of matches in the shard.
+     */
+    public int size(int shard) {
+        return shardAt(shard)._sessions.size();
+    }
+
+    /**
+     * Returns the number of matches opened in a shard.
+     *
+     * @param shard The index of the shard.
+     * @return The number of opened matches.
+     */
+    public long opened(int shard) {
+        return shardAt(shard)._opened.sum();
+    }
+
+    /**
+     * Returns the number of matches closed in a shard.
+     *
+     * @param shard The index of the shard.
+     * @return The number of closed matches.
+     */
+    public long closed(int shard) {
+        return shardAt(shard)._closed.sum();
+    }
+
+    /**
+     * Returns the number of matches evicted from a shard.
+     *
+     * @param shard The index of the shard.
+     * @return The number of evicted matches.
+     */
+    public long evicted(int shard) {
+        return shardAt(shard)._evicted.sum();
+    }
+
+    /**
+     * Returns a report of the matches of each shard.
+     *
+     * @return A line for each shard, followed by the total.
+     */
+    public String report() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-8s %10s %10s %10s %10s%n", "shard", "open", "opened", "closed", "evicted"));
+        long opened = 0;
+        long closed = 0;
+        long evicted = 0;
+        for (int i = 0; i < _shards.length; i++) {
+            builder.append(String.format("%-8d %10d %10d %10d %10d%n", i, size(i), opened(i), closed(i), evicted(i)));
+            opened += opened(i);
+            closed += closed(i);
+            evicted += evicted(i);
+        }
+        builder.append(String.format("%-8s %10d %10d %10d %10d%n", "total", size(), opened, closed, evicted));
+        return builder.toString();
+    }
+
+    private Shard shardOf(long id) {
+        assert id >= 0 : "The provided Long 'id' cannot be less than zero";
+
+        return _shards[(int) id & _mask];
+    }
+
+    private Shard shardAt(int index) {
+        assert index >= 0 : "The provided Integer 'shard' cannot be less than zero";
+        assert index < _shards.length : "The provided Integer 'shard' exceeds the number of shards";
+
+        return _shards[index];
+    }
+
+    /**
+     * Holds the matches of a shard, with the sequence of their ids and the counts of their lifecycle.
+     */
+    static private final class Shard {
+
+        private final ConcurrentHashMap<Long, Session> _sessions = new ConcurrentHashMap<>();
+        private final AtomicLong _next = new AtomicLong();
+        private final LongAdder _opened = new LongAdder();
+        private final LongAdder _closed = new LongAdder();
+        private final LongAdder _evicted = new LongAdder();
+    }
+
+    /**
+     * Holds an open match and the time it was last accessed.
+     */
+    static private final class Session {
+
+        private final JMatch _match;
+        private volatile long _accessed;
+
+        Session(JMatch match, long accessed) {
+            _match = match;
+            _accessed = accessed;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package ca.jotto.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Represents the outcome of playing a match against every secret of a set, without a {@link Jotto} game.
+ * <p>
+ * Matches are played headlessly: guesses are scored through {@link JDictionary#score(int, int)}, recorded as
+ * {@link JGuess} instances without character matches, and never validated, analysed or dispatched to listeners. The secrets are spread across a
+ * {@link ForkJoinPool}, and the number of turns each match took to win is collected into a histogram.
+ */
+public final class JSimulation {
+
+    static private final int SECRETS_PER_TASK = 8;
+
+    private final int[] _histogram;
+    private final int _matches;
+    private final long _elapsed;
+
+    private JSimulation(int[] histogram, int matches, long elapsed) {
+        _histogram = histogram;
+        _matches = matches;
+        _elapsed = elapsed;
+    }
+
+    /**
+     * Plays a match against every secret of a set, choosing each guess with a solver.
+     *
+     * @param solver          The solver that chooses the guesses.
+     * @param secrets         The secrets to play, which are also the candidates each match starts from.
+     * @param maximumAttempts The number of guesses allowed before a match is lost.
+     * @param pool            The pool that plays the matches.
+     * @return The outcome of the matches.
+     */
+    static public JSimulation run(JSolver solver, JCandidateSet secrets, int maximumAttempts, ForkJoinPool pool) {
+        assert solver != null : "The provided JSolver 'solver' cannot be null";
+
+        return run(solver, null, secrets, maximumAttempts, pool);
+    }
+
+    /**
+     * Plays a match against every secret of a set, following a strategy tree.
+     *
+     * @param tree            The tree that chooses the guesses.
+     * @param secrets         The secrets to play.
+     * @param maximumAttempts The number of guesses allowed before a match is lost.
+     * @param pool            The pool that plays the matches.
+     * @return The outcome of the matches.
+     */
+    static public JSimulation run(JStrategyTree tree, JCandidateSet secrets, int maximumAttempts, ForkJoinPool pool) {
+        assert tree != null : "The provided JStrategyTree 'tree' cannot be null";
+
+        return run(null, tree, secrets, maximumAttempts, pool);
+    }
+
+    static private JSimulation run(JSolver solver, JStrategyTree tree, JCandidateSet secrets, int maximumAttempts,
+                                   ForkJoinPool pool) {
+        assert secrets != null : "The provided JCandidateSet 'secrets' cannot be null";
+        assert solver == null || secrets.getDictionary() == solver.getDictionary() : "The provided JCandidateSet 'secrets' is of another dictionary";
+        assert maximumAttempts > 0 : "The provided Integer 'maximumAttempts' must be greater than zero";
+        assert pool != null : "The provided ForkJoinPool 'pool' cannot be null";
+
+        int[] indices = secrets.toArray();
+        long start = System.nanoTime();
+        int[] histogram = pool.invoke(new Matches(solver, tree, secrets, indices, maximumAttempts, 0, indices.length));
+
+        return new JSimulation(histogram, indices.length, System.nanoTime() - start);
+    }
+
+    /**
+     * Returns the number of matches played.
+     *
+     * @return The number of secrets of the simulation.
+     */
+    public int matches() {
+        return _matches;
+    }
+
+    /**
+     * Returns the number of matches that were won within the allowed guesses.
+     *
+     * @return The number of won matches.
+     */
+    public int won() {
+        return _matches - _histogram[0];
+    }
+
+    /**
+     * Returns the number of matches that were not won within the allowed guesses.
+     *
+     * @return The number of lost matches.
+     */
+    public int lost() {
+        return _histogram[0];
+    }
+
+    /**
+     * Returns the number of matches that were won with the specified number of guesses.
+     *
+     * @param turns The number of guesses, or zero for the matches that were lost.
+     * @return The number of matches.
+     */
+    public int turns(int turns) {
+        assert turns >= 0 && turns < _histogram.length : "The provided Integer 'turns' exceeds the maximum attempts";
+
+        return _histogram[turns];
+    }
+
+    /**
+     * Returns the number of matches won with each number of guesses.
+     *
+     * @return The histogram indexed by the number of guesses, holding the lost matches at index zero.
+     */
+    public int[] histogram() {
+        return _histogram.clone();
+    }
+
+    /**
+     * Returns the average number of guesses of the matches that were won.
+     *
+     * @return The average number of guesses, or zero if no match was won.
+     */
+    public double average() {
+        long guesses = 0;
+        for (int turns = 1; turns < _histogram.length; turns++) {
+            guesses += (long) turns * _histogram[turns];
+        }
+        return won() == 0 ? 0 : (double) guesses / won();
+    }
+
+    /**
+     * Returns the time taken to play the matches.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long elapsed() {
+        return _elapsed;
+    }
+
+    /**
+     * Returns the number of matches played per second.
+     *
+     * @return The throughput of the simulation.
+     */
+    public double throughput() {
+        return _elapsed == 0 ? 0 : _matches * 1e9 / _elapsed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%d matches in %.3f s (%.1f matches/s), %d won, %d lost, %.4f guesses on average%n",
+                _matches, _elapsed / 1e9, throughput(), won(), lost(), average()));
+        for (int turns = 1; turns < _histogram.length; turns++) {
+            builder.append(String.format("%3d %6d%n", turns, _histogram[turns]));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Plays a range of secrets, splitting the range until it is small enough to play directly.
+     */
+    static private final class Matches extends RecursiveTask<int[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JSolver _solver;
+        private final JStrategyTree _tree;
+        private final JCandidateSet _secrets;
+        private final int[] _indices;
+        private final int _maximumAttempts;
+        private final int _from;
+        private final int _to;
+
+        Matches(JSolver solver, JStrategyTree tree, JCandidateSet secrets, int[] indices, int maximumAttempts,
+                int from, int to) {
+            _solver = solver;
+            _tree = tree;
+            _secrets = secrets;
+            _indices = indices;
+            _maximumAttempts = maximumAttempts;
+            _from = from;
+            _to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (_to - _from > SECRETS_PER_TASK) {
+                int middle = (_from + _to) >>> 1;
+                Matches right = new Matches(_solver, _tree, _secrets, _indices, _maximumAttempts, middle, _to);
+                right.fork();
+                int[] histogram = new Matches(_solver, _tree, _secrets, _indices, _maximumAttempts, _from, middle).compute();
+                int[] other = right.join();
+                for (int turns = 0; turns < histogram.length; turns++) {
+                    histogram[turns] += other[turns];
+                }
+                return histogram;
+            }
+
+            int[] histogram = new int[_maximumAttempts + 1];
+            for (int i = _from; i < _to; i++) {
+                histogram[_solver == null ? follow(_indices[i]) : solve(_indices[i])]++;
+            }
+            return histogram;
+        }
+
+        /**
+         * Plays a secret with the solver, returning the number of guesses or zero if the match was lost.
+         */
+        private int solve(int secret) {
+            JDictionary dictionary = _solver.getDictionary();
+            JHistory history = new JHistory(dictionary.getCharset(), dictionary.size());
+            JCandidateSet candidates = new JCandidateSet(_secrets);
+            int won = JFeedback.pack(dictionary.size(), 0);
+
+            for (int turns = 1; turns <= _maximumAttempts; turns++) {
+                int guess = _solver.suggest(candidates, history);
+                int feedback = dictionary.score(guess, secret);
+                if (feedback == won) {
+                    return turns;
+                }
+
+                history.add(new JGuess(dictionary.word(guess), JFeedback.exact(feedback), JFeedback.partial(feedback)));
+                candidates.narrow(guess, feedback);
+            }
+            return 0;
+        }
+
+        /**
+         * Plays a secret by following the tree, returning the number of guesses or zero if the match was lost.
+         */
+        private int follow(int secret) {
+            JDictionary dictionary = _secrets.getDictionary();
+            int won = JFeedback.pack(dictionary.size(), 0);
+
+            int node = _tree.root();
+            for (int turns = 1; turns <= _maximumAttempts && node != -1; turns++) {
+                int feedback = dictionary.score(_tree.guess(node), secret);
+                if (feedback == won) {
+                    return turns;
+                }
+                node = _tree.child(node, feedback);
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package ca.jotto.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Provides the best next guess for a match, as valued by a {@link JStrategy}.
+ * <p>
+ * Every dictionary word that has not been guessed is evaluated against the remaining candidate secrets, spreading
+ * the guesses across a {@link ForkJoinPool}. Candidate secrets are evaluated first, and ties are broken in favour of
+ * a candidate and then the lower index. When a time budget is set, the best guess found when it runs out is used.
+ * When an {@link JOpeningBook} is given, the first turns of a match are answered from the book, but only while the
+ * candidates are the secrets of the book's difficulty narrowed by the guesses of the match, as the book was built for.
+ */
+public final class JSolver {
+
+    static private final int GUESSES_PER_TASK = 32;
+
+    private final JDictionary _dictionary;
+    private final JStrategy _strategy;
+    private final ForkJoinPool _pool;
+    private final long _budget;
+    private final JOpeningBook _book;
+    private final JCandidateSet _opening;
+
+    /**
+     * Initializes a new instance of the {@link JSolver} class that runs on the common pool without a time budget.
+     *
+     * @param dictionary The dictionary of the words.
+     * @param strategy   The strategy that values a guess.
+     */
+    public JSolver(JDictionary dictionary, JStrategy strategy) {
+        this(dictionary, strategy, ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Initializes a new instance of the {@link JSolver} class.
+     *
+     * @param dictionary The dictionary of the words.
+     * @param strategy   The strategy that values a guess.
+     * @param pool       The pool that evaluates the guesses.
+     * @param budget     The time budget of a suggestion in milliseconds, or zero for no budget.
+     */
+    public JSolver(JDictionary dictionary, JStrategy strategy, ForkJoinPool pool, long budget) {
+        this(dictionary, strategy, pool, budget, null);
+    }
+
+    /**
+     * Initializes a new instance of the {@link JSolver} class that answers the first turns from an opening book.
+     *
+     * @param dictionary The dictionary of the words.
+     * @param strategy   The strategy that values a guess.
+     * @param pool       The pool that evaluates the guesses.
+     * @param budget     The time budget of a suggestion in milliseconds, or zero for no budget.
+     * @param book       The opening book of the dictionary, or null.
+     */
+    public JSolver(JDictionary dictionary, JStrategy strategy, ForkJoinPool pool, long budget, JOpeningBook book) {
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert strategy != null : "The provided JStrategy 'strategy' cannot be null";
+        assert pool != null : "The provided ForkJoinPool 'pool' cannot be null";
+        assert budget >= 0 : "The provided Long 'budget' cannot be less than zero";
+
+        _dictionary = dictionary;
+        _strategy = strategy;
+        _pool = pool;
+        _budget = budget;
+        _book = book;
+        _opening = book == null ? null : new JCandidateSet(dictionary, book.difficulty());
+    }
+
+    /**
+     * Returns the dictionary of the words.
+     *
+     * @return The dictionary that suggestions are made from.
+     */
+    public JDictionary getDictionary() {
+        return _dictionary;
+    }
+
+    /**
+     * Returns the strategy that values a guess.
+     *
+     * @return The strategy of the solver.
+     */
+    public JStrategy getStrategy() {
+        return _strategy;
+    }
+
+    /**
+     * Suggests the best next guess for the remaining candidate secrets.
+     *
+     * @param candidates The remaining candidate secrets.
+     * @return The index of the suggested word, or -1 if there are no candidates.
+     */
+    public int suggest(JCandidateSet candidates) {
+        return suggest(candidates, null);
+    }
+
+    /**
+     * Suggests the best next guess for the remaining candidate secrets, excluding words that were already guessed.
+     *
+     * @param candidates The remaining candidate secrets.
+     * @param history    The guesses of the match, or null.
+     * @return The index of the suggested word, or -1 if there are no candidates.
+     */
+    public int suggest(JCandidateSet candidates, JHistory history) {
+        assert candidates != null : "The provided JCandidateSet 'candidates' cannot be null";
+        assert candidates.getDictionary() == _dictionary : "The provided JCandidateSet 'candidates' is of another dictionary";
+
+        if (candidates.cardinality() <= 2) {
+            return candidates.isEmpty() ? -1 : candidates.next(0);
+        }
+
+        if (_book != null && history != null) {
+            int guess = _book.suggest(_dictionary, history);
+            if (guess != -1 && isOpening(candidates, history)) {
+                return guess;
+            }
+        }
+
+        int[] secrets = candidates.toArray();
+        boolean[] guessed = new boolean[_dictionary.length()];
+        for (int i = 0; history != null && i < history.length(); i++) {
+            int index = _dictionary.indexOf(history.get(i).guess());
+            if (index != -1) {
+                guessed[index] = true;
+            }
+        }
+
+        int[] guesses = new int[_dictionary.length()];
+        int count = 0;
+        for (int secret : secrets) {
+            guesses[count++] = secret;
+        }
+        for (int i = 0; i < _dictionary.length(); i++) {
+            if (!candidates.contains(i) && !guessed[i]) {
+                guesses[count++] = i;
+            }
+        }
+
+        long deadline = _budget == 0 ? Long.MAX_VALUE : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(_budget);
+        Search search = new Search(this, candidates, secrets, guesses, deadline);
+        Guesses task = new Guesses(search, 0, count);
+        Best best = ForkJoinTask.getPool() == _pool ? task.invoke() : _pool.invoke(task);
+
+        return best == null ? secrets[0] : best._guess;
+    }
+
+    /**
+     * Determines whether the candidates are those the opening book was built for after the guesses of a match.
+     */
+    private boolean isOpening(JCandidateSet candidates, JHistory history) {
+        JCandidateSet opening = new JCandidateSet(_opening);
+        opening.narrow(history);
+        return opening.equals(candidates);
+    }
+
+    /**
+     * Suggests the best next guess for a match.
+     *
+     * @param match The match to suggest a guess for.
+     * @return The suggested word, or null if no word in the dictionary is consistent with the match.
+     */
+    public JWord hint(JMatch match) {
+        assert match != null : "The provided JMatch 'match' cannot be null";
+
+        int index = suggest(match.getCandidates(), match.getHistory());
+        return index == -1 ? null : _dictionary.at(index);
+    }
+
+    /**
+     * Represents the state shared by the tasks of a single suggestion.
+     */
+    static private final class Search {
+
+        private final JSolver _solver;
+        private final JCandidateSet _candidates;
+        private final int[] _secrets;
+        private final int[] _guesses;
+        private final long _deadline;
+        private final AtomicLong _bound;
+
+        Search(JSolver solver, JCandidateSet candidates, int[] secrets, int[] guesses, long deadline) {
+            _solver = solver;
+            _candidates = candidates;
+            _secrets = secrets;
+            _guesses = guesses;
+            _deadline = deadline;
+            _bound = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+        }
+
+        double bound() {
+            return Double.longBitsToDouble(_bound.get());
+        }
+
+        void raise(double value) {
+            long current = _bound.get();
+            while (value > Double.longBitsToDouble(current)
+                    && !_bound.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+                current = _bound.get();
+            }
+        }
+    }
+
+    /**
+     * Represents the best guess of a range of guesses.
+     */
+    static private final class Best {
+
+        private final int _guess;
+        private final double _value;
+        private final boolean _candidate;
+
+        Best(int guess, double value, boolean candidate) {
+            _guess = guess;
+            _value = value;
+            _candidate = candidate;
+        }
+
+        boolean isBetter(Best other) {
+            if (other == null || _value != other._value) {
+                return other == null || _value > other._value;
+            }
+            if (_candidate != other._candidate) {
+                return _candidate;
+            }
+            return _guess < other._guess;
+        }
+    }
+
+    /**
+     * Evaluates a range of guesses, splitting the range until it is small enough to evaluate directly.
+     */
+    static private final class Guesses extends RecursiveTask<Best> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Search _search;
+        private final int _from;
+        private final int _to;
+
+        Guesses(Search search, int from, int to) {
+            _search = search;
+            _from = from;
+            _to = to;
+        }
+
+        @Override
+        protected Best compute() {
+            if (_to - _from > GUESSES_PER_TASK) {
+                int middle = (_from + _to) >>> 1;
+                Guesses right = new Guesses(_search, middle, _to);
+                right.fork();
+                Best left = new Guesses(_search, _from, middle).compute();
+                Best other = right.join();
+                return other != null && other.isBetter(left) ? other : left;
+            }
+
+            JSolver solver = _search._solver;
+            int[] buckets = new int[JFeedback.CAPACITY];
+            Best best = null;
+            for (int i = _from; i < _to; i++) {
+                if (System.nanoTime() > _search._deadline) {
+                    break;
+                }
+
+                int guess = _search._guesses[i];
+                double value = solver._strategy.evaluate(solver._dictionary, guess, _search._secrets,
+                        _search._secrets.length, buckets, _search.bound());
+                if (best == null || value >= best._value) {
+                    Best current = new Best(guess, value, _search._candidates.contains(guess));
+                    if (current.isBetter(best)) {
+                        best = current;
+                        _search.raise(value);
+                    }
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ca.jotto.model;
+
+/**
+ * Represents a measure of how good a guess is against the remaining candidate secrets, used by {@link JSolver}.
+ */
+public interface JStrategy {
+
+    /**
+     * Evaluates a guess against the remaining candidate secrets, where a higher value is a better guess.
+     * <p>
+     * Once it is known that the guess scores below the bound, the evaluation may stop early and return any value
+     * below the bound. A guess that scores equal to the bound must be given its exact value.
+     *
+     * @param dictionary The dictionary of the words.
+     * @param guess      The index of the guessed word.
+     * @param secrets    The indices of the candidate secrets.
+     * @param count      The number of candidate secrets in the array.
+     * @param buckets    A zeroed array of {@link JFeedback#CAPACITY} counters, which must be zeroed again on return.
+     * @param bound      The value of the best guess found so far.
+     * @return The value of the guess.
+     */
+    double evaluate(JDictionary dictionary, int guess, int[] secrets, int count, int[] buckets, double bound);
+}
@@ -0,0 +1,450 @@
+package ca.jotto.model;
+
+import ca.jotto.model.exception.JottoStateException;
+import ca.jotto.model.exception.JottoValidationException;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayDeque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Represents a complete guessing strategy over a set of secrets, as a tree of guesses.
+ * <p>
+ * Each node holds the index of a guess, and each edge the score the guess received. Nodes are numbered breadth-first
+ * from the root at zero and held in two flat arrays: the guess of each node, and a dense table of child nodes with
+ * one slot per score of every node. A tree is written to a file with a big-endian {@link #HEADER} byte header:
+ * <pre>
+ * int  magic        'JSTR'
+ * int  version      {@link #VERSION}
+ * long fingerprint  {@link JDictionary#fingerprint()} of the dictionary
+ * int  size         length of each word
+ * int  nodes        number of nodes
+ * int  secrets      number of secrets the tree solves
+ * int  depth        largest number of guesses to solve a secret
+ * long guesses      total number of guesses to solve every secret
+ * long elapsed      build time in nanoseconds
+ * </pre>
+ * followed by the guess of each node and then the child table, as integers.
+ */
+public final class JStrategyTree {
+
+    /**
+     * The version of the tree file format.
+     */
+    static public final int VERSION = 1;
+
+    /**
+     * The size of the tree file header in bytes.
+     */
+    static public final int HEADER = 48;
+
+    static private final int MAGIC = 0x4A535452;
+
+    private final long _fingerprint;
+    private final int _size;
+    private final int _slots;
+    private final int _nodes;
+    private final int _secrets;
+    private final int _depth;
+    private final long _guesses;
+    private final long _elapsed;
+    private final IntBuffer _guess;
+    private final IntBuffer _children;
+
+    private JStrategyTree(long fingerprint, int size, int nodes, int secrets, int depth, long guesses, long elapsed,
+                          IntBuffer guess, IntBuffer children) {
+        _fingerprint = fingerprint;
+        _size = size;
+        _slots = (size + 1) * (size + 1);
+        _nodes = nodes;
+        _secrets = secrets;
+        _depth = depth;
+        _guesses = guesses;
+        _elapsed = elapsed;
+        _guess = guess;
+        _children = children;
+    }
+
+    /**
+     * Builds the tree of a solver over a set of secrets, solving the subtrees in parallel on the pool.
+     *
+     * @param solver     The solver that chooses the guess of each node.
+     * @param candidates The secrets the tree must solve.
+     * @param pool       The pool that builds the subtrees.
+     * @return The built tree.
+     */
+    static public JStrategyTree build(JSolver solver, JCandidateSet candidates, ForkJoinPool pool) {
+        assert solver != null : "The provided JSolver 'solver' cannot be null";
+        assert candidates != null : "The provided JCandidateSet 'candidates' cannot be null";
+        assert candidates.getDictionary() == solver.getDictionary() : "The provided JCandidateSet 'candidates' is of another dictionary";
+        assert !candidates.isEmpty() : "The provided JCandidateSet 'candidates' cannot be empty";
+        assert pool != null : "The provided ForkJoinPool 'pool' cannot be null";
+
+        long start = System.nanoTime();
+        JDictionary dictionary = solver.getDictionary();
+        Node root = pool.invoke(new Subtree(solver, new JCandidateSet(candidates)));
+
+        int size = dictionary.size();
+        int slots = (size + 1) * (size + 1);
+        int[] guess = new int[root._count];
+        int[] children = new int[root._count * slots];
+
+        ArrayDeque<Node> queue = new ArrayDeque<Node>();
+        queue.add(root);
+        int next = 1;
+        for (int node = 0; !queue.isEmpty(); node++) {
+            Node current = queue.poll();
+            guess[node] = current._guess;
+            for (int slot = 0; slot < slots; slot++) {
+                Node child = current._children == null ? null : current._children[slot];
+                if (child == null) {
+                    children[node * slots + slot] = -1;
+                } else {
+                    children[node * slots + slot] = next++;
+                    queue.add(child);
+                }
+            }
+        }
+
+        return new JStrategyTree(dictionary.fingerprint(), size, root._count, candidates.cardinality(), root._depth,
+                root._guesses, System.nanoTime() - start, IntBuffer.wrap(guess), IntBuffer.wrap(children));
+    }
+
+    /**
+     * Maps a tree file into memory.
+     *
+     * @param path       The path of the tree file.
+     * @param dictionary The dictionary the tree must have been built from.
+     * @return The mapped tree, or null if the file is missing, was built from another dictionary or is malformed.
+     * @throws IOException An error occurred while attempting to read the file.
+     */
+    static public JStrategyTree open(Path path, JDictionary dictionary) throws IOException {
+        assert path != null : "The provided Path 'path' cannot be null";
+        assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER || channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+
+            ByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.BIG_ENDIAN);
+            long fingerprint;
+            int size;
+            int nodes;
+            if (data.getInt() != MAGIC
+                    || data.getInt() != VERSION
+                    || (fingerprint = data.getLong()) != dictionary.fingerprint()
+                    || (size = data.getInt()) != dictionary.size()
+                    || (nodes = data.getInt()) <= 0) {
+                return null;
+            }
+
+            int secrets = data.getInt();
+            int depth = data.getInt();
+            long guesses = data.getLong();
+            long elapsed = data.getLong();
+
+            int slots = (size + 1) * (size + 1);
+            if (channel.size() != HEADER + 4L * nodes * (1 + slots)) {
+                return null;
+            }
+
+            ((Buffer) data).position(HEADER);
+            IntBuffer guess = data.slice().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+            ((Buffer) guess).limit(nodes);
+            ((Buffer) data).position(HEADER + 4 * nodes);
+            IntBuffer children = data.slice().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+
+            for (int node = 0; node < nodes; node++) {
+                int word = guess.get(node);
+                if (word < 0 || word >= dictionary.length()) {
+                    return null;
+                }
+            }
+            for (int slot = 0; slot < nodes * slots; slot++) {
+                int child = children.get(slot);
+                if (child < -1 || child >= nodes) {
+                    return null;
+                }
+            }
+
+            return new JStrategyTree(fingerprint, size, nodes, secrets, depth, guesses, elapsed, guess.slice(), children);
+        }
+    }
+
+    /**
+     * Writes the tree to a file, replacing any existing file atomically where the file system permits.
+     *
+     * @param path The path of the tree file.
+     * @throws IOException           An error occurred while attempting to write the file.
+     * @throws IllegalStateException The tree is too large to be written to a single buffer.
+     */
+    public void write(Path path) throws IOException {
+        assert path != null : "The provided Path 'path' cannot be null";
+
+        long length = HEADER + 4L * _nodes * (1 + _slots);
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException(String.format("The strategy tree of %d nodes is too large to be written.", _nodes));
+        }
+
+        ByteBuffer data = ByteBuffer.allocate((int) length).order(ByteOrder.BIG_ENDIAN);
+        data.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(_fingerprint)
+                .putInt(_size)
+                .putInt(_nodes)
+                .putInt(_secrets)
+                .putInt(_depth)
+                .putLong(_guesses)
+                .putLong(_elapsed);
+        for (int node = 0; node < _nodes; node++) {
+            data.putInt(_guess.get(node));
+        }
+        for (int slot = 0; slot < _nodes * _slots; slot++) {
+            data.putInt(_children.get(slot));
+        }
+        ((Buffer) data).flip();
+
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (data.hasRemaining()) {
+                    channel.write(data);
+                }
+                channel.force(false);
+            }
+
+            try {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Returns the root node of the tree.
+     *
+     * @return The node of the first guess.
+     */
+    public int root() {
+        return 0;
+    }
+
+    /**
+     * Returns the guess of a node.
+     *
+     * @param node The node of the tree.
+     * @return The index of the guessed word.
+     */
+    public int guess(int node) {
+        assert node >= 0 && node < _nodes : "The provided Integer 'node' is outside of the tree";
+
+        return _guess.get(node);
+    }
+
+    /**
+     * Returns the node that follows a node after its guess received a score.
+     *
+     * @param node     The node of the tree.
+     * @param feedback The packed {@link JFeedback} score of the guess of the node.
+     * @return The next node, or -1 if no secret of the tree produces the score.
+     */
+    public int child(int node, int feedback) {
+        assert node >= 0 && node < _nodes : "The provided Integer 'node' is outside of the tree";
+
+        int exact = JFeedback.exact(feedback);
+        int partial = JFeedback.partial(feedback);
+        if (exact + partial > _size) {
+            return -1;
+        }
+        return _children.get(node * _slots + exact * (_size + 1) + partial);
+    }
+
+    /**
+     * Plays a match to its end by following the tree.
+     *
+     * @param match The match to play, which must be in progress.
+     * @return true if the match was won; false if the secret is not within the tree or the match was lost.
+     * @throws JottoStateException      An error occurred as the current state of the {@link JMatch} does not permit guessing.
+     * @throws JottoValidationException An error occurred as a guess of the tree is not valid for the match.
+     */
+    public boolean play(JMatch match) throws JottoStateException, JottoValidationException {
+        assert match != null : "The provided JMatch 'match' cannot be null";
+
+        JDictionary dictionary = match.getGame().getDictionary();
+        assert dictionary.fingerprint() == _fingerprint : "The provided JMatch 'match' is of another dictionary";
+
+        int node = root();
+        while (node != -1 && match.isPlaying()) {
+            JGuess guess = match.guess(dictionary.word(guess(node)));
+            node = child(node, JFeedback.pack(guess.exact(), guess.partial()));
+        }
+        return match.hasWon();
+    }
+
+    /**
+     * Returns the number of nodes of the tree.
+     *
+     * @return The number of nodes.
+     */
+    public int nodes() {
+        return _nodes;
+    }
+
+    /**
+     * Returns the number of secrets the tree solves.
+     *
+     * @return The number of secrets.
+     */
+    public int secrets() {
+        return _secrets;
+    }
+
+    /**
+     * Returns the largest number of guesses the tree needs to solve a secret.
+     *
+     * @return The depth of the tree.
+     */
+    public int depth() {
+        return _depth;
+    }
+
+    /**
+     * Returns the average number of guesses the tree needs to solve a secret.
+     *
+     * @return The average depth of the secrets.
+     */
+    public double average() {
+        return _secrets == 0 ? 0 : (double) _guesses / _secrets;
+    }
+
+    /**
+     * Returns the time taken to build the tree.
+     *
+     * @return The build time in nanoseconds.
+     */
+    public long elapsed() {
+        return _elapsed;
+    }
+
+    /**
+     * Represents a node of the tree while it is built.
+     */
+    static private final class Node {
+
+        private final int _guess;
+        private final Node[] _children;
+        private final int _count;
+        private final int _secrets;
+        private final int _depth;
+        private final long _guesses;
+
+        Node(int guess, Node[] children, boolean won) {
+            int count = 1;
+            int secrets = won ? 1 : 0;
+            int depth = won ? 1 : 0;
+            long guesses = 0;
+            if (children != null) {
+                for (Node child : children) {
+                    if (child != null) {
+                        count += child._count;
+                        secrets += child._secrets;
+                        depth = Math.max(depth, child._depth + 1);
+                        guesses += child._guesses;
+                    }
+                }
+            }
+
+            _guess = guess;
+            _children = children;
+            _count = count;
+            _secrets = secrets;
+            _depth = depth;
+            _guesses = guesses + secrets;
+        }
+    }
+
+    /**
+     * Builds the subtree of a set of candidate secrets, building the subtrees of each score in parallel.
+     */
+    static private final class Subtree extends RecursiveTask<Node> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final JSolver _solver;
+        private final JCandidateSet _candidates;
+
+        Subtree(JSolver solver, JCandidateSet candidates) {
+            _solver = solver;
+            _candidates = candidates;
+        }
+
+        @Override
+        protected Node compute() {
+            JDictionary dictionary = _solver.getDictionary();
+            int size = dictionary.size();
+            int won = JFeedback.pack(size, 0);
+
+            if (_candidates.cardinality() == 1) {
+                return new Node(_candidates.next(0), null, true);
+            }
+
+            int guess = _solver.suggest(_candidates);
+            int first = dictionary.score(guess, _candidates.next(0));
+            boolean splits = _candidates.contains(guess);
+            for (int secret = _candidates.next(0); secret != -1 && !splits; secret = _candidates.next(secret + 1)) {
+                splits = dictionary.score(guess, secret) != first;
+            }
+            if (!splits) {
+                guess = _candidates.next(0);
+            }
+
+            Subtree[] tasks = new Subtree[(size + 1) * (size + 1)];
+            int count = 0;
+            for (int secret = _candidates.next(0); secret != -1; secret = _candidates.next(secret + 1)) {
+                int feedback = dictionary.score(guess, secret);
+                int slot = JFeedback.exact(feedback) * (size + 1) + JFeedback.partial(feedback);
+                if (feedback != won && tasks[slot] == null) {
+                    JCandidateSet remaining = new JCandidateSet(_candidates);
+                    remaining.narrow(guess, feedback);
+                    tasks[slot] = new Subtree(_solver, remaining);
+                    count++;
+                }
+            }
+
+            Node[] children = new Node[tasks.length];
+            ForkJoinTask<?>[] forked = new ForkJoinTask<?>[count];
+            count = 0;
+            for (Subtree task : tasks) {
+                if (task != null) {
+                    forked[count++] = task;
+                }
+            }
+            invokeAll(forked);
+            for (int slot = 0; slot < tasks.length; slot++) {
+                if (tasks[slot] != null) {
+                    children[slot] = tasks[slot].join();
+                }
+            }
+
+            return new Node(guess, children, _candidates.contains(guess));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package ca.jotto.model;
+
+/**
+ * Represents a variant of jotto, by the character set and length of its words.
+ */
+public final class JVariant {
+
+    /**
+     * The default word size of a jotto game.
+     */
+    static public final int DEFAULT_SIZE = 5;
+
+    /**
+     * The variant of five letter words over the default character set.
+     */
+    static public final JVariant DEFAULT = new JVariant(JCharset.DEFAULT, DEFAULT_SIZE);
+
+    private final JCharset _charset;
+    private final int _size;
+
+    /**
+     * Initializes a new instance of the {@link JVariant} class.
+     *
+     * @param charset The character set of the words.
+     * @param size    The length of the words.
+     */
+    public JVariant(JCharset charset, int size) {
+        assert charset != null : "The provided JCharset 'charset' cannot be null";
+        assert size > 0 : "The provided Integer 'size' must be greater than zero";
+
+        _charset = charset;
+        _size = size;
+    }
+
+    /**
+     * Returns the character set of the words.
+     *
+     * @return The character set of the variant.
+     */
+    public JCharset getCharset() {
+        return _charset;
+    }
+
+    /**
+     * Returns the length of the words.
+     *
+     * @return The word size of the variant.
+     */
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JVariant)) {
+            return false;
+        }
+
+        JVariant other = (JVariant) o;
+        return _size == other._size && _charset.equals(other._charset);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * _charset.hashCode() + _size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d letters of %c-%c", _size, _charset.at(0), _charset.at(_charset.length() - 1));
+    }
+}
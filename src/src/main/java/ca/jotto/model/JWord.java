@@ -54,4 +54,22 @@ public final class JWord implements Comparable<JWord> {
     public int compareTo(JWord o) {
         return o.word().compareTo(word());
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JWord)) {
+            return false;
+        }
+
+        JWord other = (JWord) o;
+        return _difficulty == other._difficulty && _word.equals(other._word);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * _word.hashCode() + _difficulty;
+    }
 }
\ No newline at end of file
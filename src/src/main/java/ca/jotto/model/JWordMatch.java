@@ -29,31 +29,6 @@ public enum JWordMatch {
         assert secret != null : "The provided String 'word' cannot be null";
         assert guess.length() == secret.length() : "The provided String 'word' must equal the dictionary word length";
 
-        StringBuilder value = new StringBuilder(secret);
-
-        JWordMatch[] matches = new JWordMatch[guess.length()];
-        for (int i = 0; i < guess.length(); i++) {
-            if (guess.charAt(i) == value.charAt(i)) {
-                value.setCharAt(i, (char) Character.UNASSIGNED);
-                matches[i] = JWordMatch.EXACT;
-            } else {
-                matches[i] = JWordMatch.NONE;
-            }
-        }
-
-        for (int i = 0; i < guess.length(); i++) {
-            if (matches[i] != JWordMatch.NONE) {
-                continue;
-            }
-
-            for (int r = 0; r < secret.length(); r++) {
-                if (guess.charAt(i) == secret.charAt(r) && value.charAt(r) != Character.UNASSIGNED) {
-                    value.setCharAt(r, (char) Character.UNASSIGNED);
-                    matches[i] = JWordMatch.PARTIAL;
-                }
-            }
-        }
-
-        return matches;
+        return JFeedback.matches(guess, secret);
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package ca.jotto.model;
 
 import ca.jotto.model.listeners.JottoEventMap;
 
+import java.io.IOException;
+
 /**
  * Represents the structure of a jotto game.
  */
@@ -22,11 +24,42 @@ public final class Jotto {
      * @param dictionary The object that contains the words.
      */
     public Jotto(JDictionary dictionary) {
+        this(dictionary, new JottoEventMap());
+    }
+
+    /**
+     * Initializes a new instance of the {@link Jotto} class with the specified word dictionary and event map.
+     *
+     * @param dictionary The object that contains the words.
+     * @param eventMap   The event map that notifies the listeners of the game, such as a {@link ca.jotto.model.listeners.JAsyncEventMap}.
+     */
+    public Jotto(JDictionary dictionary, JottoEventMap eventMap) {
         assert dictionary != null : "The provided JDictionary 'dictionary' cannot be null";
+        assert eventMap != null : "The provided JottoEventMap 'eventMap' cannot be null";
 
         _dictionary = dictionary;
         _charset = dictionary.getCharset();
-        _eventMap = new JottoEventMap();
+        _eventMap = eventMap;
+    }
+
+    /**
+     * Initializes a new instance of the {@link Jotto} class with the dictionary of a variant.
+     *
+     * @param registry The registry of the dictionaries.
+     * @param variant  The variant of the game.
+     * @throws IOException An error occurred while attempting to load the dictionary of the variant.
+     */
+    public Jotto(JDictionaryRegistry registry, JVariant variant) throws IOException {
+        this(registry.get(variant));
+    }
+
+    /**
+     * Returns the variant of the game.
+     *
+     * @return The character set and word size of the game.
+     */
+    public JVariant getVariant() {
+        return new JVariant(_charset, _dictionary.size());
     }
 
     /**
@@ -0,0 +1,644 @@
+package ca.jotto.model.listeners;
+
+import ca.jotto.model.JGameState;
+import ca.jotto.model.JGuess;
+import ca.jotto.model.JLetterDelta;
+import ca.jotto.model.JMatch;
+import ca.jotto.model.Jotto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An event map that delivers events asynchronously, so that slow listeners do not delay the game.
+ * <p>
+ * Events are put into a bounded lock-free ring, in which each slot carries a sequence number that tells producers and
+ * consumers whether the slot is free or filled for the current lap. A dedicated consumer thread takes events from the
+ * ring in batches of up to {@link #BATCH_SIZE} and dispatches them to the listeners in the order they were queued, so
+ * each listener sees the events of a game in the order they were raised. When the ring is full, the
+ * {@link JBackpressure} policy decides whether the caller waits, the oldest event is dropped, or the event is merged
+ * with a pending event of the same kind and subject. An event raised by a listener, on the consumer thread, while the
+ * ring is full cannot wait for the consumer, so it is delivered immediately, ahead of the queued events.
+ * <p>
+ * A listener that throws does not keep the event from the later listeners. The map counts the events it published, delivered, dropped and coalesced, and measures the lag from publishing an
+ * event to delivering it. The map must be closed to stop the consumer thread.
+ */
+public class JAsyncEventMap extends JottoEventMap implements AutoCloseable {
+
+    /**
+     * The largest number of events delivered by the consumer at once.
+     */
+    static public final int BATCH_SIZE = 64;
+
+    static private final int TURN_INCORRECT = 0;
+    static private final int TURN_CORRECT = 1;
+    static private final int TURN_GUESS = 2;
+    static private final int STATE_CHANGED = 3;
+    static private final int CHARACTER_ELIMINATED = 4;
+    static private final int CHARACTER_EXACT = 5;
+    static private final int MATCH_START = 6;
+    static private final int MATCH_OVER = 7;
+    static private final int PLAYER_YIELD = 8;
+    static private final int PLAYER_WIN = 9;
+    static private final int PLAYER_LOSS = 10;
+    static private final int LETTERS_CHANGED = 11;
+    static private final char NO_CHARACTER = '\0';
+
+    private final JBackpressure _backpressure;
+    private final int _mask;
+    private final Event[] _events;
+    private final AtomicLongArray _sequences;
+    private final AtomicLong _head;
+    private final AtomicLong _tail;
+    private final LinkedHashMap<Event, Event> _overflow;
+    private volatile boolean _overflowing;
+    private volatile int _overflowed;
+
+    private final Thread _consumer;
+    private volatile boolean _waiting;
+    private volatile boolean _closed;
+    private final AtomicInteger _publishing;
+
+    private final LongAdder _published;
+    private final LongAdder _dropped;
+    private final LongAdder _coalesced;
+    private final AtomicLong _delivered;
+    private final AtomicLong _failures;
+    private volatile long _lag;
+    private volatile long _maximumLag;
+
+    /**
+     * Initializes a new instance of the {@link JAsyncEventMap} class and starts its consumer thread.
+     *
+     * @param capacity     The number of events the ring holds, which must be a power of two.
+     * @param backpressure What to do with an event when the ring is full.
+     */
+    public JAsyncEventMap(int capacity, JBackpressure backpressure) {
+        assert capacity >= 2 && Integer.bitCount(capacity) == 1 : "The provided Integer 'capacity' must be a power of two";
+        assert backpressure != null : "The provided JBackpressure 'backpressure' cannot be null";
+
+        _backpressure = backpressure;
+        _mask = capacity - 1;
+        _events = new Event[capacity];
+        _sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            _sequences.set(i, i);
+        }
+        _head = new AtomicLong();
+        _tail = new AtomicLong();
+        _overflow = new LinkedHashMap<>();
+
+        _published = new LongAdder();
+        _dropped = new LongAdder();
+        _coalesced = new LongAdder();
+        _delivered = new AtomicLong();
+        _failures = new AtomicLong();
+        _publishing = new AtomicInteger();
+
+        _consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                consume();
+            }
+        }, "jotto-events");
+        _consumer.setDaemon(true);
+        _consumer.start();
+    }
+
+    @Override
+    public void onTurnIncorrect(Jotto jotto, JGuess guess) {
+        assert jotto != null;
+        assert guess != null;
+
+        publish(new Event(TURN_INCORRECT, jotto, null, guess, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onTurnCorrect(Jotto jotto, JGuess guess) {
+        assert jotto != null;
+        assert guess != null;
+
+        publish(new Event(TURN_CORRECT, jotto, null, guess, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onTurnGuess(Jotto jotto, JGuess guess) {
+        assert jotto != null;
+        assert guess != null;
+
+        publish(new Event(TURN_GUESS, jotto, null, guess, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+        assert jotto != null;
+        assert match != null;
+        assert oldState != null;
+        assert newState != null;
+
+        publish(new Event(STATE_CHANGED, jotto, match, oldState, newState, NO_CHARACTER));
+    }
+
+    @Override
+    public void onCharacterEliminated(Jotto jotto, char character) {
+        assert jotto != null;
+        assert Character.isDefined(character);
+
+        publish(new Event(CHARACTER_ELIMINATED, jotto, null, null, null, character));
+    }
+
+    @Override
+    public void onCharacterExact(Jotto jotto, char character) {
+        assert jotto != null;
+        assert Character.isDefined(character);
+
+        publish(new Event(CHARACTER_EXACT, jotto, null, null, null, character));
+    }
+
+    @Override
+    public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+        assert jotto != null;
+        assert match != null;
+        assert delta != null;
+
+        publish(new Event(LETTERS_CHANGED, jotto, match, delta, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onMatchStart(Jotto jotto, JMatch match) {
+        assert jotto != null;
+
+        publish(new Event(MATCH_START, jotto, match, null, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onMatchOver(Jotto jotto, JMatch match) {
+        assert jotto != null;
+
+        publish(new Event(MATCH_OVER, jotto, match, null, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onPlayerYield(Jotto jotto, JMatch match) {
+        assert jotto != null;
+
+        publish(new Event(PLAYER_YIELD, jotto, match, null, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onPlayerWin(Jotto jotto, JMatch match) {
+        assert jotto != null;
+
+        publish(new Event(PLAYER_WIN, jotto, match, null, null, NO_CHARACTER));
+    }
+
+    @Override
+    public void onPlayerLoss(Jotto jotto, JMatch match) {
+        assert jotto != null;
+
+        publish(new Event(PLAYER_LOSS, jotto, match, null, null, NO_CHARACTER));
+    }
+
+    /**
+     * Waits until every event published so far has been delivered, dropped or coalesced.
+     */
+    public void flush() {
+        assert Thread.currentThread() != _consumer : "The event map cannot be flushed by one of its listeners";
+
+        long published = _published.sum();
+        while (_delivered.get() + _dropped.sum() + _coalesced.sum() < published && _consumer.isAlive()) {
+            LockSupport.unpark(_consumer);
+            LockSupport.parkNanos(10000);
+        }
+    }
+
+    /**
+     * Delivers the queued events and stops the consumer thread. Events cannot be published once the map is closed,
+     * and an event whose publishing began before is delivered before the consumer stops.
+     */
+    @Override
+    public void close() {
+        _closed = true;
+        LockSupport.unpark(_consumer);
+        try {
+            _consumer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the policy for events that arrive when the ring is full.
+     *
+     * @return The backpressure policy of the map.
+     */
+    public JBackpressure getBackpressure() {
+        return _backpressure;
+    }
+
+    /**
+     * Returns the number of events the ring holds.
+     *
+     * @return The capacity of the ring.
+     */
+    public int capacity() {
+        return _events.length;
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     *
+     * @return The depth of the queue, including events held aside to be coalesced.
+     */
+    public long depth() {
+        return Math.max(0, _tail.get() - _head.get()) + _overflowed;
+    }
+
+    /**
+     * Returns the number of events published to the map.
+     *
+     * @return The number of published events.
+     */
+    public long published() {
+        return _published.sum();
+    }
+
+    /**
+     * Returns the number of events delivered to the listeners.
+     *
+     * @return The number of delivered events.
+     */
+    public long delivered() {
+        return _delivered.get();
+    }
+
+    /**
+     * Returns the number of events discarded to make room for newer events.
+     *
+     * @return The number of dropped events.
+     */
+    public long dropped() {
+        return _dropped.sum();
+    }
+
+    /**
+     * Returns the number of events merged into a pending event.
+     *
+     * @return The number of coalesced events.
+     */
+    public long coalesced() {
+        return _coalesced.sum();
+    }
+
+    /**
+     * Returns the number of times a listener threw an exception while an event was delivered to it.
+     *
+     * @return The number of failed deliveries.
+     */
+    public long failures() {
+        return _failures.get();
+    }
+
+    /**
+     * Returns the time between publishing and delivering the last delivered event.
+     *
+     * @return The delivery lag in nanoseconds.
+     */
+    public long lag() {
+        return _lag;
+    }
+
+    /**
+     * Returns the longest time between publishing and delivering an event.
+     *
+     * @return The maximum delivery lag in nanoseconds.
+     */
+    public long maximumLag() {
+        return _maximumLag;
+    }
+
+    /**
+     * Queues an event according to the backpressure policy.
+     * <p>
+     * The publishing is counted while it is in progress, so that the consumer does not stop while an event that
+     * passed the check for a closed map has yet to be queued. A publisher waiting for room gives up once the map is
+     * closed or the consumer has stopped, as the room may never come. An event is counted as published once it is
+     * queued or delivered.
+     */
+    private void publish(Event event) {
+        _publishing.incrementAndGet();
+        try {
+            ensureOpen();
+
+            event._time = System.nanoTime();
+            boolean consumer = Thread.currentThread() == _consumer;
+            switch (_backpressure) {
+                case BLOCK:
+                    while (!offer(event)) {
+                        if (consumer) {
+                            deliver(event);
+                            break;
+                        }
+                        ensureOpen();
+                        signal();
+                        LockSupport.parkNanos(1000);
+                    }
+                    break;
+                case DROP_OLDEST:
+                    while (!offer(event)) {
+                        if (poll() != null) {
+                            _dropped.increment();
+                        }
+                    }
+                    break;
+                case COALESCE:
+                    if (_overflowing || !offer(event)) {
+                        while (!coalesce(event)) {
+                            if (consumer) {
+                                deliver(event);
+                                break;
+                            }
+                            ensureOpen();
+                            signal();
+                            LockSupport.parkNanos(1000);
+                        }
+                    }
+                    break;
+            }
+            _published.increment();
+        } finally {
+            _publishing.decrementAndGet();
+        }
+        signal();
+    }
+
+    /**
+     * Throws if the map is closed or its consumer has stopped.
+     */
+    private void ensureOpen() {
+        if (_closed) {
+            throw new IllegalStateException("The event map has been closed.");
+        }
+        if (!_consumer.isAlive()) {
+            throw new IllegalStateException("The consumer of the event map has stopped.");
+        }
+    }
+
+    /**
+     * Adds an event to the ring, returning false if the ring is full.
+     */
+    private boolean offer(Event event) {
+        long tail = _tail.get();
+        while (true) {
+            int index = (int) tail & _mask;
+            long difference = _sequences.get(index) - tail;
+            if (difference == 0) {
+                if (_tail.compareAndSet(tail, tail + 1)) {
+                    _events[index] = event;
+                    _sequences.lazySet(index, tail + 1);
+                    return true;
+                }
+                tail = _tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                tail = _tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest event from the ring, returning null if the ring is empty.
+     */
+    private Event poll() {
+        long head = _head.get();
+        while (true) {
+            int index = (int) head & _mask;
+            long difference = _sequences.get(index) - (head + 1);
+            if (difference == 0) {
+                if (_head.compareAndSet(head, head + 1)) {
+                    Event event = _events[index];
+                    _events[index] = null;
+                    _sequences.lazySet(index, head + _events.length);
+                    return event;
+                }
+                head = _head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                head = _head.get();
+            }
+        }
+    }
+
+    /**
+     * Holds an event aside while the ring is full, merging it with a pending event of the same kind and subject.
+     * Returns false if the event must wait for room.
+     * <p>
+     * A merged event is moved behind the events held aside after it, so that it is delivered at the position of the
+     * latest of the events it stands for, after every event that was raised before.
+     */
+    private boolean coalesce(Event event) {
+        synchronized (_overflow) {
+            if (!_overflowing && offer(event)) {
+                return true;
+            }
+
+            Event pending = _overflow.get(event);
+            if (pending != null) {
+                _overflow.remove(pending);
+                pending._b = event._b;
+                _overflow.put(pending, pending);
+                _coalesced.increment();
+                return true;
+            }
+            if (_overflow.size() < _events.length) {
+                _overflow.put(event, event);
+                _overflowed = _overflow.size();
+                _overflowing = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Wakes the consumer if it is waiting for events.
+     */
+    private void signal() {
+        if (_waiting) {
+            LockSupport.unpark(_consumer);
+        }
+    }
+
+    /**
+     * Delivers events until the map is closed and every queued event has been delivered.
+     */
+    private void consume() {
+        Event[] batch = new Event[BATCH_SIZE];
+        while (true) {
+            int count = 0;
+            Event event;
+            while (count < BATCH_SIZE && (event = poll()) != null) {
+                batch[count++] = event;
+            }
+
+            if (count > 0) {
+                for (int i = 0; i < count; i++) {
+                    deliver(batch[i]);
+                    batch[i] = null;
+                }
+            } else if (_overflowing) {
+                ArrayList<Event> events = new ArrayList<>();
+                synchronized (_overflow) {
+                    while ((event = poll()) != null) {
+                        events.add(event);
+                    }
+                    events.addAll(_overflow.values());
+                    _overflow.clear();
+                    _overflowed = 0;
+                    _overflowing = false;
+                }
+                for (Event pending : events) {
+                    deliver(pending);
+                }
+            } else if (_tail.get() == _head.get()) {
+                if (_closed) {
+                    if (_publishing.get() == 0 && _tail.get() == _head.get() && !_overflowing) {
+                        return;
+                    }
+                    Thread.yield();
+                    continue;
+                }
+
+                _waiting = true;
+                if (_tail.get() == _head.get() && !_overflowing && !_closed) {
+                    LockSupport.park(this);
+                }
+                _waiting = false;
+            }
+        }
+    }
+
+    /**
+     * Dispatches an event to the listeners and records its lag.
+     * <p>
+     * An exception of a listener is counted by {@link #failed(JottoListener, RuntimeException)}. Any other throwable,
+     * such as a failed assertion, ends the delivery of the event to the later listeners and is counted here, so that
+     * the consumer keeps delivering the later events.
+     */
+    private void deliver(Event event) {
+        try {
+            dispatch(event);
+        } catch (Throwable ex) {
+            _failures.incrementAndGet();
+        }
+
+        long lag = System.nanoTime() - event._time;
+        _lag = lag;
+        if (lag > _maximumLag) {
+            _maximumLag = lag;
+        }
+        _delivered.incrementAndGet();
+    }
+
+    /**
+     * Dispatches an event to the listeners of its kind.
+     */
+    private void dispatch(Event event) {
+        switch (event._kind) {
+            case TURN_INCORRECT:
+                super.onTurnIncorrect(event._jotto, (JGuess) event._a);
+                break;
+            case TURN_CORRECT:
+                super.onTurnCorrect(event._jotto, (JGuess) event._a);
+                break;
+            case TURN_GUESS:
+                super.onTurnGuess(event._jotto, (JGuess) event._a);
+                break;
+            case STATE_CHANGED:
+                super.onGameStateChanged(event._jotto, event._match, (JGameState) event._a, (JGameState) event._b);
+                break;
+            case CHARACTER_ELIMINATED:
+                super.onCharacterEliminated(event._jotto, event._character);
+                break;
+            case CHARACTER_EXACT:
+                super.onCharacterExact(event._jotto, event._character);
+                break;
+            case LETTERS_CHANGED:
+                super.onLettersChanged(event._jotto, event._match, (JLetterDelta) event._a);
+                break;
+            case MATCH_START:
+                super.onMatchStart(event._jotto, event._match);
+                break;
+            case MATCH_OVER:
+                super.onMatchOver(event._jotto, event._match);
+                break;
+            case PLAYER_YIELD:
+                super.onPlayerYield(event._jotto, event._match);
+                break;
+            case PLAYER_WIN:
+                super.onPlayerWin(event._jotto, event._match);
+                break;
+            default:
+                super.onPlayerLoss(event._jotto, event._match);
+                break;
+        }
+    }
+
+    /**
+     * Counts the exception of a listener, so that the event is still delivered to the later listeners.
+     */
+    @Override
+    protected void failed(JottoListener listener, RuntimeException ex) {
+        _failures.incrementAndGet();
+    }
+
+    /**
+     * Holds a queued event. Events are equal when they are of the same kind and subject, so that a state change is
+     * merged with the pending state change of the same match, and any other event only with an identical event.
+     */
+    static private final class Event {
+
+        private final int _kind;
+        private final Jotto _jotto;
+        private final JMatch _match;
+        private final Object _a;
+        private volatile Object _b;
+        private final char _character;
+        private long _time;
+
+        Event(int kind, Jotto jotto, JMatch match, Object a, Object b, char character) {
+            _kind = kind;
+            _jotto = jotto;
+            _match = match;
+            _a = a;
+            _b = b;
+            _character = character;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Event)) {
+                return false;
+            }
+
+            Event other = (Event) o;
+            return _kind == other._kind && _jotto == other._jotto && _match == other._match
+                    && _character == other._character && (_kind == STATE_CHANGED || _a == other._a);
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 31 * _kind + System.identityHashCode(_jotto);
+            hash = 31 * hash + System.identityHashCode(_match);
+            hash = 31 * hash + _character;
+            return _kind == STATE_CHANGED ? hash : 31 * hash + System.identityHashCode(_a);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package ca.jotto.model.listeners;
+
+/**
+ * An enumeration of what an asynchronous event map does with an event when its queue is full.
+ */
+public enum JBackpressure {
+    /**
+     * The event waits until the queue has room, delaying the caller.
+     */
+    BLOCK,
+    /**
+     * The oldest queued event is discarded to make room.
+     */
+    DROP_OLDEST,
+    /**
+     * The event is merged with a pending event of the same kind and subject, so that only the latest is delivered.
+     */
+    COALESCE
+}
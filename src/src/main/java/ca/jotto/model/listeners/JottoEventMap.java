@@ -2,23 +2,36 @@ package ca.jotto.model.listeners;
 
 import ca.jotto.model.JGameState;
 import ca.jotto.model.JGuess;
+import ca.jotto.model.JLetterDelta;
 import ca.jotto.model.JMatch;
 import ca.jotto.model.Jotto;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * An event map is a notification component for synchronous event handling.
+ * <p>
+ * Registration sorts each listener into an array for every listener interface it implements, held in an immutable
+ * snapshot that is replaced on each change. An event is dispatched by looping over the array of its interface, with
+ * no type checks, and a listener added or removed during dispatch takes effect from the next event. An exception
+ * thrown by a listener is passed to {@link #failed(JottoListener, RuntimeException)}, which rethrows it. A
+ * {@link StateListener} that is not a {@link LetterListener} receives the letters that changed with a guess through a
+ * {@link LetterAdapter}, as one event per letter.
+ * <p>
+ * The event map is safe for use by multiple threads without locking. A registration copies the current snapshot and
+ * publishes the copy with a compare-and-set, retrying if another registration won, so that concurrent changes are
+ * never lost and dispatching threads never wait.
  */
 public class JottoEventMap {
 
-    private final ArrayList<JottoListener> _listeners;
+    private final AtomicReference<Listeners> _listeners;
 
     /**
      * Initializes a new instance of the JottoEventMap class.
      */
     public JottoEventMap() {
-        _listeners = new ArrayList<JottoListener>();
+        _listeners = new AtomicReference<>(Listeners.EMPTY);
     }
 
     /**
@@ -28,7 +41,11 @@ public class JottoEventMap {
      */
     public void addListener(JottoListener listener) {
         assert listener != null;
-        _listeners.add(listener);
+
+        Listeners current;
+        do {
+            current = _listeners.get();
+        } while (!_listeners.compareAndSet(current, current.add(listener)));
     }
 
     /**
@@ -38,7 +55,13 @@ public class JottoEventMap {
      */
     public void removeListener(JottoListener listener) {
         assert listener != null;
-        _listeners.remove(listener);
+
+        Listeners current;
+        Listeners removed;
+        do {
+            current = _listeners.get();
+            removed = current.remove(listener);
+        } while (removed != current && !_listeners.compareAndSet(current, removed));
     }
 
     /**
@@ -51,10 +74,12 @@ public class JottoEventMap {
         assert jotto != null;
         assert guess != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            TurnListener lst = as(TurnListener.class, _listeners.get(i));
-            if (lst != null)
+        for (TurnListener lst : _listeners.get()._turn) {
+            try {
                 lst.onTurnIncorrect(jotto, guess);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -68,10 +93,12 @@ public class JottoEventMap {
         assert jotto != null;
         assert guess != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            TurnListener lst = as(TurnListener.class, _listeners.get(i));
-            if (lst != null)
+        for (TurnListener lst : _listeners.get()._turn) {
+            try {
                 lst.onTurnCorrect(jotto, guess);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -85,10 +112,12 @@ public class JottoEventMap {
         assert jotto != null;
         assert guess != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            TurnListener lst = as(TurnListener.class, _listeners.get(i));
-            if (lst != null)
+        for (TurnListener lst : _listeners.get()._turn) {
+            try {
                 lst.onTurnGuess(jotto, guess);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -96,18 +125,22 @@ public class JottoEventMap {
      * Invoked when a game state has been modified.
      *
      * @param jotto    The jotto game referenced.
+     * @param match    The match whose state changed.
      * @param oldState The previous game state.
      * @param newState The new game state.
      */
-    public void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState) {
+    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
         assert jotto != null;
+        assert match != null;
         assert oldState != null;
         assert newState != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            StateListener lst = as(StateListener.class, _listeners.get(i));
-            if (lst != null)
-                lst.onGameStateChanged(jotto, oldState, newState);
+        for (StateListener lst : _listeners.get()._state) {
+            try {
+                lst.onGameStateChanged(jotto, match, oldState, newState);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -121,10 +154,12 @@ public class JottoEventMap {
         assert jotto != null;
         assert Character.isDefined(character);
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            StateListener lst = as(StateListener.class, _listeners.get(i));
-            if (lst != null)
+        for (StateListener lst : _listeners.get()._state) {
+            try {
                 lst.onCharacterEliminated(jotto, character);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -138,10 +173,33 @@ public class JottoEventMap {
         assert jotto != null;
         assert Character.isDefined(character);
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            StateListener lst = as(StateListener.class, _listeners.get(i));
-            if (lst != null)
+        for (StateListener lst : _listeners.get()._state) {
+            try {
                 lst.onCharacterExact(jotto, character);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
+        }
+    }
+
+    /**
+     * Invoked when the status of letters has changed in a game.
+     *
+     * @param jotto The jotto game referenced.
+     * @param match The match whose letters changed.
+     * @param delta The letters that changed and their new status.
+     */
+    public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+        assert jotto != null;
+        assert match != null;
+        assert delta != null;
+
+        for (LetterListener lst : _listeners.get()._letter) {
+            try {
+                lst.onLettersChanged(jotto, match, delta);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -154,10 +212,12 @@ public class JottoEventMap {
     public void onMatchStart(Jotto jotto, JMatch match) {
         assert jotto != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            GameListener lst = as(GameListener.class, _listeners.get(i));
-            if (lst != null)
+        for (GameListener lst : _listeners.get()._game) {
+            try {
                 lst.onMatchStart(jotto, match);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -170,10 +230,12 @@ public class JottoEventMap {
     public void onMatchOver(Jotto jotto, JMatch match) {
         assert jotto != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            GameListener lst = as(GameListener.class, _listeners.get(i));
-            if (lst != null)
+        for (GameListener lst : _listeners.get()._game) {
+            try {
                 lst.onMatchOver(jotto, match);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -186,10 +248,12 @@ public class JottoEventMap {
     public void onPlayerYield(Jotto jotto, JMatch match) {
         assert jotto != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            GameListener lst = as(GameListener.class, _listeners.get(i));
-            if (lst != null)
+        for (GameListener lst : _listeners.get()._game) {
+            try {
                 lst.onPlayerYield(jotto, match);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -202,10 +266,12 @@ public class JottoEventMap {
     public void onPlayerWin(Jotto jotto, JMatch match) {
         assert jotto != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            GameListener lst = as(GameListener.class, _listeners.get(i));
-            if (lst != null)
+        for (GameListener lst : _listeners.get()._game) {
+            try {
                 lst.onPlayerWin(jotto, match);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
@@ -218,22 +284,107 @@ public class JottoEventMap {
     public void onPlayerLoss(Jotto jotto, JMatch match) {
         assert jotto != null;
 
-        for (int i = 0; i < _listeners.size(); i++) {
-            GameListener lst = as(GameListener.class, _listeners.get(i));
-            if (lst != null)
+        for (GameListener lst : _listeners.get()._game) {
+            try {
                 lst.onPlayerLoss(jotto, match);
+            } catch (RuntimeException ex) {
+                failed(lst, ex);
+            }
         }
     }
 
     /**
-     * A function to perform certain types of conversions between compatible
-     * reference types or nullable types.
+     * Invoked when a listener throws while an event is dispatched to it.
+     * <p>
+     * The exception is rethrown, so that it reaches the caller that raised the event and the later listeners do not
+     * receive the event. A subclass may instead record the exception and return, so that the event is still
+     * dispatched to the later listeners.
      *
-     * @param type The class to convert to.
-     * @param obj  The object to convert.
-     * @return Returns the converted object if the type matches; false otherwise.
+     * @param listener The listener that threw.
+     * @param ex       The exception thrown by the listener.
+     */
+    protected void failed(JottoListener listener, RuntimeException ex) {
+        throw ex;
+    }
+
+    /**
+     * Holds the registered listeners, and those of each listener interface, in the order they were added. The letter
+     * listeners include an adapter for each state listener that is not itself a letter listener.
      */
-    private <T> T as(Class<T> type, Object obj) {
-        return type.isInstance(obj) ? type.cast(obj) : null;
+    static private final class Listeners {
+
+        static final Listeners EMPTY = new Listeners(new JottoListener[0]);
+
+        private final JottoListener[] _all;
+        private final TurnListener[] _turn;
+        private final StateListener[] _state;
+        private final GameListener[] _game;
+        private final LetterListener[] _letter;
+
+        Listeners(JottoListener[] listeners) {
+            _all = listeners;
+            _turn = filter(listeners, TurnListener.class, new TurnListener[count(listeners, TurnListener.class)]);
+            _state = filter(listeners, StateListener.class, new StateListener[count(listeners, StateListener.class)]);
+            _game = filter(listeners, GameListener.class, new GameListener[count(listeners, GameListener.class)]);
+            _letter = adapt(listeners);
+        }
+
+        Listeners add(JottoListener listener) {
+            JottoListener[] listeners = Arrays.copyOf(_all, _all.length + 1);
+            listeners[_all.length] = listener;
+            return new Listeners(listeners);
+        }
+
+        Listeners remove(JottoListener listener) {
+            for (int i = 0; i < _all.length; i++) {
+                if (_all[i].equals(listener)) {
+                    JottoListener[] listeners = new JottoListener[_all.length - 1];
+                    System.arraycopy(_all, 0, listeners, 0, i);
+                    System.arraycopy(_all, i + 1, listeners, i, _all.length - i - 1);
+                    return new Listeners(listeners);
+                }
+            }
+            return this;
+        }
+
+        static private int count(JottoListener[] listeners, Class<?> type) {
+            int count = 0;
+            for (JottoListener listener : listeners) {
+                if (type.isInstance(listener)) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        static private LetterListener[] adapt(JottoListener[] listeners) {
+            int count = 0;
+            for (JottoListener listener : listeners) {
+                if (listener instanceof LetterListener || listener instanceof StateListener) {
+                    count++;
+                }
+            }
+
+            LetterListener[] adapted = new LetterListener[count];
+            count = 0;
+            for (JottoListener listener : listeners) {
+                if (listener instanceof LetterListener) {
+                    adapted[count++] = (LetterListener) listener;
+                } else if (listener instanceof StateListener) {
+                    adapted[count++] = new LetterAdapter((StateListener) listener);
+                }
+            }
+            return adapted;
+        }
+
+        static private <T> T[] filter(JottoListener[] listeners, Class<T> type, T[] filtered) {
+            int count = 0;
+            for (JottoListener listener : listeners) {
+                if (type.isInstance(listener)) {
+                    filtered[count++] = type.cast(listener);
+                }
+            }
+            return filtered;
+        }
     }
 }
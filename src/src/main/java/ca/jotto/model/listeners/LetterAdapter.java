@@ -0,0 +1,51 @@
+package ca.jotto.model.listeners;
+
+import ca.jotto.model.JLetterDelta;
+import ca.jotto.model.JLetterStatus;
+import ca.jotto.model.JMatch;
+import ca.jotto.model.Jotto;
+
+/**
+ * Adapts a {@link StateListener} to receive the letters that changed with a guess as one event per letter.
+ * <p>
+ * The letters are delivered in the order of the character set, as {@link StateListener#onCharacterEliminated} or
+ * {@link StateListener#onCharacterExact} according to their new status. Letters known only to be present, at an
+ * unknown position, have no character event and are not delivered.
+ */
+public final class LetterAdapter implements LetterListener {
+
+    private final StateListener _listener;
+
+    /**
+     * Initializes a new instance of the {@link LetterAdapter} class.
+     *
+     * @param listener The listener of the events of each letter.
+     */
+    public LetterAdapter(StateListener listener) {
+        assert listener != null : "The provided StateListener 'listener' cannot be null";
+
+        _listener = listener;
+    }
+
+    /**
+     * Returns the adapted listener.
+     *
+     * @return The listener of the events of each letter.
+     */
+    public StateListener getListener() {
+        return _listener;
+    }
+
+    @Override
+    public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+        for (int i = delta.next(0); i >= 0; i = delta.next(i + 1)) {
+            char character = delta.getCharset().at(i);
+            JLetterStatus status = delta.status(i);
+            if (status == JLetterStatus.ELIMINATED) {
+                _listener.onCharacterEliminated(jotto, character);
+            } else if (status == JLetterStatus.DISCOVERED) {
+                _listener.onCharacterExact(jotto, character);
+            }
+        }
+    }
+}
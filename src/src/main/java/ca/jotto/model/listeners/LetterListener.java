@@ -0,0 +1,24 @@
+package ca.jotto.model.listeners;
+
+import ca.jotto.model.JLetterDelta;
+import ca.jotto.model.JMatch;
+import ca.jotto.model.Jotto;
+
+/**
+ * The listener interface for receiving the letters that changed with a guess.
+ * <p>
+ * A listener that implements both this interface and {@link StateListener} receives the letters of a guess only
+ * through this interface.
+ */
+public interface LetterListener extends JottoListener {
+
+    /**
+     * Invoked when the status of letters has changed in a game.
+     *
+     * @param jotto The jotto game referenced.
+     * @param match The match whose letters changed.
+     * @param delta The letters that changed and their new status.
+     */
+    void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta);
+
+}
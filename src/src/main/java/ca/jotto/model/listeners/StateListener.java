@@ -1,6 +1,7 @@
 package ca.jotto.model.listeners;
 
 import ca.jotto.model.JGameState;
+import ca.jotto.model.JMatch;
 import ca.jotto.model.Jotto;
 
 /**
@@ -12,10 +13,11 @@ public interface StateListener extends JottoListener {
      * Invoked when a game state has been modified.
      *
      * @param jotto    The jotto game referenced.
+     * @param match    The match whose state changed.
      * @param oldState The previous game state.
      * @param newState The new game state.
      */
-    void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState);
+    void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState);
 
     /**
      * Invoked when a character has been eliminated in a game.
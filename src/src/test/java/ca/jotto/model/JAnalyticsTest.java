@@ -1,10 +1,14 @@
 package ca.jotto.model;
 
+import ca.jotto.model.listeners.LetterListener;
+import ca.jotto.model.listeners.StateListener;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
 
 public class JAnalyticsTest {
 
@@ -35,7 +39,7 @@ public class JAnalyticsTest {
 
     @Category(ValidationTests.class)
     @Test(expected = AssertionError.class)
-    public void compute_jotto_null() throws Exception {
+    public void compute_match_null() throws Exception {
         JAnalytics analytics = new JAnalytics(JCharset.DEFAULT, TestHelper.WORD_SIZE);
         Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
         JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
@@ -50,7 +54,7 @@ public class JAnalyticsTest {
         Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
         JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
 
-        analytics.compute(jotto, null, match.getHistory());
+        analytics.compute(match, null, match.getHistory());
     }
 
     @Category(ValidationTests.class)
@@ -60,7 +64,7 @@ public class JAnalyticsTest {
         Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
         JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
 
-        analytics.compute(jotto, jotto.getEventMap(), null);
+        analytics.compute(match, jotto.getEventMap(), null);
     }
 
     @Category(FunctionalTests.class)
@@ -75,7 +79,7 @@ public class JAnalyticsTest {
         jotto.getEventMap().addListener(new OnExact(flag));
 
         match.guess("HELLO");
-        analytics.compute(jotto, jotto.getEventMap(), match.getHistory());
+        analytics.compute(match, jotto.getEventMap(), match.getHistory());
         assertTrue(flag.get());
     }
 
@@ -91,7 +95,146 @@ public class JAnalyticsTest {
         jotto.getEventMap().addListener(new OnEliminated(flag));
 
         match.guess("EJECT");
-        analytics.compute(jotto, jotto.getEventMap(), match.getHistory());
+        analytics.compute(match, jotto.getEventMap(), match.getHistory());
         assertTrue(flag.get());
     }
-}
\ No newline at end of file
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void update_guess_null() throws Exception {
+        JAnalytics analytics = new JAnalytics(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+
+        analytics.update(match, jotto.getEventMap(), null);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void update_status() throws Exception {
+        JAnalytics analytics = new JAnalytics(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        JSecret secret = new JSecret(new JWord("WORLD", TestHelper.SINGLE_DIFFICULTY));
+
+        analytics.update(match, jotto.getEventMap(), secret.guess("EJECT"));
+        assertEquals(JLetterStatus.ELIMINATED, analytics.status('E'));
+        assertEquals(JLetterStatus.ELIMINATED, analytics.status('T'));
+        assertEquals(JLetterStatus.NONE, analytics.status('W'));
+
+        analytics.update(match, jotto.getEventMap(), secret.guess("HELLO"));
+        assertEquals(JLetterStatus.DISCOVERED, analytics.status('L'));
+        assertEquals(JLetterStatus.PRESENT, analytics.status('O'));
+        assertEquals(JLetterStatus.ELIMINATED, analytics.status('H'));
+        assertEquals('L', analytics.known(3));
+        assertEquals(Character.UNASSIGNED, analytics.known(0));
+        assertEquals(2, analytics.processed());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void update_changes_only() throws Exception {
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        match.start();
+
+        final ArrayList<Character> events = new ArrayList<>();
+        jotto.getEventMap().addListener(new StateListener() {
+            @Override
+            public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+            }
+
+            @Override
+            public void onCharacterEliminated(Jotto jotto, char character) {
+                events.add(character);
+            }
+
+            @Override
+            public void onCharacterExact(Jotto jotto, char character) {
+                events.add(character);
+            }
+        });
+
+        match.guess("EJECT");
+        assertEquals(4, events.size());
+
+        match.guess("HELLO");
+        assertEquals(6, events.size());
+        assertTrue(events.subList(4, 6).containsAll(Arrays.asList('H', 'L')));
+
+        match.getAnalytics().compute(match, jotto.getEventMap(), match.getHistory());
+        assertEquals(6, events.size());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void update_delta() throws Exception {
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        JSecret secret = new JSecret(new JWord("WORLD", TestHelper.SINGLE_DIFFICULTY));
+        JAnalytics analytics = new JAnalytics(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+
+        final ArrayList<JLetterDelta> deltas = new ArrayList<>();
+        jotto.getEventMap().addListener(new LetterListener() {
+            @Override
+            public void onLettersChanged(Jotto jotto, JMatch source, JLetterDelta delta) {
+                deltas.add(delta);
+            }
+        });
+
+        analytics.update(match, jotto.getEventMap(), secret.guess("EJECT"));
+        assertEquals(1, deltas.size());
+        assertEquals(4, deltas.get(0).length());
+        assertEquals(JLetterStatus.ELIMINATED, deltas.get(0).status('J'));
+
+        analytics.update(match, jotto.getEventMap(), secret.guess("HELLO"));
+        assertEquals(2, deltas.size());
+        assertEquals(JLetterStatus.ELIMINATED, deltas.get(1).status('H'));
+        assertEquals(JLetterStatus.DISCOVERED, deltas.get(1).status('L'));
+        assertEquals(JLetterStatus.PRESENT, deltas.get(1).status('O'));
+        assertEquals(JLetterStatus.NONE, deltas.get(1).status('E'));
+
+        analytics.update(match, jotto.getEventMap(), secret.guess("EJECT"));
+        assertEquals(2, deltas.size());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void compute_incremental() throws Exception {
+        JAnalytics analytics = new JAnalytics(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        match.start();
+
+        match.guess("EJECT");
+        analytics.compute(match, jotto.getEventMap(), match.getHistory());
+        assertEquals(1, analytics.processed());
+
+        match.guess("HELLO");
+        analytics.compute(match, jotto.getEventMap(), match.getHistory());
+        assertEquals(2, analytics.processed());
+        assertEquals(match.getAnalytics().status('E'), analytics.status('E'));
+        assertEquals(match.getAnalytics().status('L'), analytics.status('L'));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void update_candidates() throws Exception {
+        JAnalytics analytics = new JAnalytics(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList());
+        Jotto jotto = new Jotto(dictionary);
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        JSecret secret = new JSecret(new JWord("WORLD", TestHelper.SINGLE_DIFFICULTY));
+        JGuess guess = secret.guess("HELLO");
+
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        candidates.narrow(guess);
+        analytics.update(match, jotto.getEventMap(), guess, candidates);
+
+        assertEquals(1, candidates.cardinality());
+        assertEquals(JLetterStatus.DISCOVERED, analytics.status('W'));
+        assertEquals(JLetterStatus.ELIMINATED, analytics.status('Z'));
+        assertEquals('W', analytics.known(0));
+        assertNotNull(analytics.deduction());
+    }
+}
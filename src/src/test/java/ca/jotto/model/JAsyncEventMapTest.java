@@ -0,0 +1,414 @@
+package ca.jotto.model;
+
+import ca.jotto.model.listeners.JAsyncEventMap;
+import ca.jotto.model.listeners.JBackpressure;
+import ca.jotto.model.listeners.StateListener;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class JAsyncEventMapTest {
+
+    static private final int CAPACITY = 8;
+
+    static private Jotto getJotto() {
+        return new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()));
+    }
+
+    /**
+     * Records the events it receives, holding the consumer on the first event until it is released.
+     */
+    static private class Recorder implements StateListener {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch released;
+
+        Recorder(boolean hold) {
+            released = new CountDownLatch(hold ? 1 : 0);
+        }
+
+        private void record(String event) {
+            entered.countDown();
+            try {
+                assertTrue(released.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException ex) {
+                throw new AssertionError(ex);
+            }
+            events.add(event);
+        }
+
+        @Override
+        public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+            record(oldState + ">" + newState);
+        }
+
+        @Override
+        public void onCharacterEliminated(Jotto jotto, char character) {
+            record("-" + character);
+        }
+
+        @Override
+        public void onCharacterExact(Jotto jotto, char character) {
+            record("+" + character);
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_capacity() throws Exception {
+        new JAsyncEventMap(6, JBackpressure.BLOCK);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalStateException.class)
+    public void publish_closed() throws Exception {
+        JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK);
+        eventMap.close();
+        eventMap.onCharacterExact(getJotto(), 'A');
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void deliver_order() throws Exception {
+        Jotto jotto = getJotto();
+        Recorder recorder = new Recorder(false);
+        ArrayList<String> expected = new ArrayList<>();
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK)) {
+            eventMap.addListener(recorder);
+            for (int i = 0; i < 1000; i++) {
+                char character = (char) ('A' + i % 26);
+                eventMap.onCharacterExact(jotto, character);
+                expected.add("+" + character);
+            }
+            eventMap.flush();
+
+            assertEquals(expected, recorder.events);
+            assertEquals(1000, eventMap.published());
+            assertEquals(1000, eventMap.delivered());
+            assertEquals(0, eventMap.depth());
+            assertTrue(eventMap.maximumLag() >= eventMap.lag());
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void deliver_async() throws Exception {
+        Jotto jotto = getJotto();
+        Recorder recorder = new Recorder(true);
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK)) {
+            eventMap.addListener(recorder);
+            eventMap.onCharacterExact(jotto, 'A');
+            assertTrue(recorder.entered.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < CAPACITY; i++) {
+                eventMap.onCharacterEliminated(jotto, (char) ('B' + i));
+            }
+
+            assertEquals(CAPACITY, eventMap.depth());
+            assertEquals(0, eventMap.delivered());
+
+            recorder.released.countDown();
+            eventMap.flush();
+            assertEquals(CAPACITY + 1, eventMap.delivered());
+            assertEquals(0, eventMap.depth());
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void backpressure_dropOldest() throws Exception {
+        Jotto jotto = getJotto();
+        Recorder recorder = new Recorder(true);
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.DROP_OLDEST)) {
+            eventMap.addListener(recorder);
+            eventMap.onCharacterExact(jotto, 'A');
+            assertTrue(recorder.entered.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 20; i++) {
+                eventMap.onCharacterEliminated(jotto, (char) ('B' + i));
+            }
+
+            recorder.released.countDown();
+            eventMap.flush();
+
+            assertEquals(20 - CAPACITY, eventMap.dropped());
+            ArrayList<String> expected = new ArrayList<>();
+            expected.add("+A");
+            for (int i = 20 - CAPACITY; i < 20; i++) {
+                expected.add("-" + (char) ('B' + i));
+            }
+            assertEquals(expected, recorder.events);
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void backpressure_coalesce() throws Exception {
+        Jotto jotto = getJotto();
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        Recorder recorder = new Recorder(true);
+        JGameState[] states = new JGameState[]{JGameState.IDLE, JGameState.PLAYING, JGameState.YIELDED, JGameState.IDLE,
+                JGameState.PLAYING, JGameState.WON};
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.COALESCE)) {
+            eventMap.addListener(recorder);
+            eventMap.onCharacterExact(jotto, 'A');
+            assertTrue(recorder.entered.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < CAPACITY; i++) {
+                eventMap.onCharacterEliminated(jotto, (char) ('B' + i));
+            }
+            for (int i = 1; i < states.length; i++) {
+                eventMap.onGameStateChanged(jotto, match, states[i - 1], states[i]);
+            }
+            eventMap.onCharacterEliminated(jotto, 'Z');
+            eventMap.onCharacterEliminated(jotto, 'Z');
+
+            assertEquals(CAPACITY + 2, eventMap.depth());
+            recorder.released.countDown();
+            eventMap.flush();
+
+            assertEquals(states.length - 2 + 1, eventMap.coalesced());
+            ArrayList<String> expected = new ArrayList<>();
+            expected.add("+A");
+            for (int i = 0; i < CAPACITY; i++) {
+                expected.add("-" + (char) ('B' + i));
+            }
+            expected.add("IDLE>WON");
+            expected.add("-Z");
+            assertEquals(expected, recorder.events);
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void backpressure_coalesce_match() throws Exception {
+        Jotto jotto = getJotto();
+        JMatch first = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        JMatch second = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        Recorder recorder = new Recorder(true);
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.COALESCE)) {
+            eventMap.addListener(recorder);
+            eventMap.onCharacterExact(jotto, 'A');
+            assertTrue(recorder.entered.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < CAPACITY; i++) {
+                eventMap.onCharacterEliminated(jotto, (char) ('B' + i));
+            }
+            eventMap.onGameStateChanged(jotto, first, JGameState.IDLE, JGameState.PLAYING);
+            eventMap.onGameStateChanged(jotto, second, JGameState.IDLE, JGameState.PLAYING);
+            eventMap.onGameStateChanged(jotto, first, JGameState.PLAYING, JGameState.WON);
+            eventMap.onGameStateChanged(jotto, second, JGameState.PLAYING, JGameState.YIELDED);
+
+            recorder.released.countDown();
+            eventMap.flush();
+
+            assertEquals(2, eventMap.coalesced());
+            List<String> events = recorder.events.subList(CAPACITY + 1, recorder.events.size());
+            assertEquals(Arrays.asList("IDLE>WON", "IDLE>YIELDED"), events);
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void backpressure_coalesce_order() throws Exception {
+        Jotto jotto = getJotto();
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        Recorder recorder = new Recorder(true);
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.COALESCE)) {
+            eventMap.addListener(recorder);
+            eventMap.onCharacterExact(jotto, 'A');
+            assertTrue(recorder.entered.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < CAPACITY; i++) {
+                eventMap.onCharacterEliminated(jotto, (char) ('B' + i));
+            }
+            eventMap.onGameStateChanged(jotto, match, JGameState.IDLE, JGameState.PLAYING);
+            eventMap.onLettersChanged(jotto, match, new JLetterDelta(JCharset.DEFAULT, new long[]{1L << 25}, new long[1], new long[1]));
+            eventMap.onGameStateChanged(jotto, match, JGameState.PLAYING, JGameState.WON);
+
+            recorder.released.countDown();
+            eventMap.flush();
+
+            assertEquals(1, eventMap.coalesced());
+            List<String> events = recorder.events.subList(CAPACITY + 1, recorder.events.size());
+            assertEquals(Arrays.asList("-Z", "IDLE>WON"), events);
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test(timeout = 10000)
+    public void deliver_error() throws Exception {
+        final Jotto jotto = getJotto();
+        Recorder recorder = new Recorder(true);
+        try (final JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK)) {
+            eventMap.addListener(recorder);
+            eventMap.addListener(new OnExact(new MutableBoolean(false)) {
+                @Override
+                public void onCharacterExact(Jotto jotto, char character) {
+                    throw new AssertionError();
+                }
+            });
+
+            eventMap.onCharacterExact(jotto, 'A');
+            assertTrue(recorder.entered.await(10, TimeUnit.SECONDS));
+            Thread publisher = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 4 * CAPACITY; i++) {
+                        eventMap.onCharacterExact(jotto, 'B');
+                    }
+                }
+            });
+            publisher.start();
+            while (eventMap.depth() < CAPACITY) {
+                Thread.sleep(1);
+            }
+
+            recorder.released.countDown();
+            publisher.join();
+            eventMap.flush();
+
+            assertEquals(1 + 4 * CAPACITY, eventMap.failures());
+            assertEquals(1 + 4 * CAPACITY, eventMap.delivered());
+            assertEquals(1 + 4 * CAPACITY, recorder.events.size());
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test(timeout = 10000)
+    public void publish_consumer() throws Exception {
+        for (JBackpressure backpressure : new JBackpressure[]{JBackpressure.BLOCK, JBackpressure.COALESCE}) {
+            final Jotto jotto = getJotto();
+            final Recorder recorder = new Recorder(false);
+            final CountDownLatch published = new CountDownLatch(1);
+            try (final JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, backpressure)) {
+                eventMap.addListener(new OnExact(new MutableBoolean(false)) {
+                    @Override
+                    public void onCharacterExact(Jotto jotto, char character) {
+                        for (int i = 0; i < 4 * CAPACITY; i++) {
+                            eventMap.onCharacterEliminated(jotto, (char) ('a' + i));
+                        }
+                        published.countDown();
+                    }
+                });
+                eventMap.addListener(recorder);
+                eventMap.onCharacterExact(jotto, 'A');
+                published.await();
+                eventMap.flush();
+
+                assertEquals(1 + 4 * CAPACITY, eventMap.delivered());
+                assertEquals(1 + 4 * CAPACITY, recorder.events.size());
+            }
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void close_publishing() throws Exception {
+        final Jotto jotto = getJotto();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; round++) {
+                final JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK);
+                final AtomicInteger events = new AtomicInteger();
+                eventMap.addListener(new OnExact(new MutableBoolean(false)) {
+                    @Override
+                    public void onCharacterExact(Jotto jotto, char character) {
+                        events.incrementAndGet();
+                    }
+                });
+
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    futures.add(executor.submit(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                while (true) {
+                                    eventMap.onCharacterExact(jotto, 'A');
+                                }
+                            } catch (IllegalStateException ex) {
+                                // The map was closed
+                            }
+                        }
+                    }));
+                }
+                Thread.sleep(1);
+                eventMap.close();
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+
+                assertEquals(eventMap.published(), eventMap.delivered());
+                assertEquals(eventMap.published(), events.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void deliver_failure() throws Exception {
+        Jotto jotto = getJotto();
+        Recorder recorder = new Recorder(false);
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK)) {
+            eventMap.addListener(new OnExact(new MutableBoolean(false)) {
+                @Override
+                public void onCharacterExact(Jotto jotto, char character) {
+                    throw new IllegalStateException();
+                }
+            });
+            eventMap.addListener(recorder);
+            eventMap.onCharacterExact(jotto, 'A');
+            eventMap.onCharacterEliminated(jotto, 'B');
+            eventMap.flush();
+
+            assertEquals(1, eventMap.failures());
+            assertEquals(2, eventMap.delivered());
+            assertEquals(Arrays.asList("+A", "-B"), recorder.events);
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void deliver_letters() throws Exception {
+        Jotto jotto = getJotto();
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        Recorder recorder = new Recorder(false);
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK)) {
+            eventMap.addListener(recorder);
+            eventMap.onLettersChanged(jotto, match, new JLetterDelta(JCharset.DEFAULT, new long[]{0b01}, new long[1], new long[]{0b10}));
+            eventMap.flush();
+
+            assertEquals(1, eventMap.delivered());
+            assertEquals(Arrays.asList("-A", "+B"), recorder.events);
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void jotto_match() throws Exception {
+        try (JAsyncEventMap eventMap = new JAsyncEventMap(CAPACITY, JBackpressure.BLOCK)) {
+            Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()), eventMap);
+            MutableBoolean flag = new MutableBoolean(false);
+            jotto.getEventMap().addListener(new OnWin(flag));
+
+            JWord word = jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY);
+            JMatch match = jotto.construct(word);
+            match.start();
+            match.guess(word.word());
+
+            eventMap.flush();
+            assertTrue(flag.get());
+        }
+    }
+}
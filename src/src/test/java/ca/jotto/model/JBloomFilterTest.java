@@ -0,0 +1,107 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class JBloomFilterTest {
+
+    static private JDictionary getDictionary() throws Exception {
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            return JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+    }
+
+    static private String randomWord(Random random, int size) {
+        char[] word = new char[size];
+        for (int l = 0; l < size; l++) {
+            word[l] = JCharset.DEFAULT.at(random.nextInt(JCharset.DEFAULT.length()));
+        }
+        return new String(word);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void build_null() throws Exception {
+        JBloomFilter.build(null, 0.01);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void build_rate() throws Exception {
+        JBloomFilter.build(getDictionary(), 1);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void mightContain_words() throws Exception {
+        JDictionary dictionary = getDictionary();
+        JBloomFilter filter = JBloomFilter.build(dictionary, 0.01);
+
+        for (int i = 0; i < dictionary.length(); i++) {
+            assertTrue(filter.mightContain(dictionary.word(i)));
+        }
+        assertEquals(dictionary.length(), filter.queries());
+        assertEquals(0, filter.rejected());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void mightContain_rate() throws Exception {
+        JDictionary dictionary = getDictionary();
+        Random random = new Random(3);
+        for (double rate : new double[]{0.1, 0.01, 0.001}) {
+            JBloomFilter filter = JBloomFilter.build(dictionary, rate);
+            int misses = 0;
+            int passed = 0;
+            while (misses < 100000) {
+                String word = randomWord(random, dictionary.size());
+                if (dictionary.indexOf(word) == -1) {
+                    misses++;
+                    passed += filter.mightContain(word) ? 1 : 0;
+                }
+            }
+            assertTrue(passed < 2 * rate * misses);
+            assertEquals(rate, filter.falsePositiveRate(), 0);
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void mightContain_invalid() throws Exception {
+        JBloomFilter filter = JBloomFilter.build(getDictionary(), 0.01);
+
+        assertFalse(filter.mightContain("SOOT"));
+        assertFalse(filter.mightContain("sooth"));
+        assertFalse(filter.mightContain("SOOT1"));
+        assertEquals(3, filter.queries());
+        assertEquals(3, filter.rejected());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void contains_metrics() throws Exception {
+        JDictionary dictionary = getDictionary();
+        assertNull(dictionary.bloomFilter());
+        JBloomFilter filter = dictionary.bloomFilter(0.01);
+        assertSame(filter, dictionary.bloomFilter());
+
+        Random random = new Random(5);
+        int misses = 0;
+        for (int i = 0; i < 1000; i++) {
+            String word = randomWord(random, dictionary.size());
+            boolean contains = dictionary.indexOf(word) != -1;
+            misses += contains ? 0 : 1;
+            assertEquals(contains, dictionary.contains(word));
+        }
+        assertTrue(dictionary.contains(dictionary.word(0)));
+
+        assertEquals(1001, filter.queries());
+        assertEquals(misses, filter.rejected() + filter.falsePositives());
+    }
+}
@@ -0,0 +1,167 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class JCandidateSetTest {
+
+    static private JDictionary getDictionary() throws Exception {
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            return JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_null() throws Exception {
+        new JCandidateSet((JDictionary) null);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void constructor() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+
+        assertEquals(dictionary.length(), candidates.cardinality());
+        assertFalse(candidates.isEmpty());
+        assertSame(dictionary, candidates.getDictionary());
+        for (int i = 0; i < dictionary.length(); i++) {
+            assertTrue(candidates.contains(i));
+        }
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, candidates.toArray());
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void constructor_empty() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, new ArrayList<JWord>());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+
+        assertTrue(candidates.isEmpty());
+        assertEquals(-1, candidates.next(0));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void next() throws Exception {
+        JDictionary dictionary = getDictionary();
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+
+        int count = 0;
+        for (int i = candidates.next(0); i != -1; i = candidates.next(i + 1)) {
+            assertEquals(count, i);
+            count++;
+        }
+        assertEquals(dictionary.length(), count);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void narrow() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        JSecret secret = new JSecret(dictionary.get("MYTHS"));
+
+        candidates.narrow(secret.guess("PSYCH"));
+        assertTrue(candidates.contains(dictionary.indexOf("MYTHS")));
+        assertFalse(candidates.contains(dictionary.indexOf("QUAKE")));
+
+        candidates.narrow(secret.guess("NYMPH"));
+        assertEquals(1, candidates.cardinality());
+        assertEquals(dictionary.indexOf("MYTHS"), candidates.next(0));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void narrow_dictionary() throws Exception {
+        JDictionary dictionary = getDictionary();
+        JSecret secret = new JSecret(dictionary.get("CARVE"));
+        JGuess[] guesses = new JGuess[]{secret.guess("RECUT"), secret.guess("BOOKY"), secret.guess("FELON")};
+
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        for (JGuess guess : guesses) {
+            candidates.narrow(guess);
+        }
+
+        for (int i = 0; i < dictionary.length(); i++) {
+            boolean consistent = true;
+            for (JGuess guess : guesses) {
+                consistent &= JFeedback.score(guess.guess(), dictionary.at(i).word()) == JFeedback.pack(guess.exact(), guess.partial());
+            }
+            assertEquals(consistent, candidates.contains(i));
+        }
+        assertTrue(candidates.contains(dictionary.indexOf("CARVE")));
+        assertEquals(candidates.toArray().length, candidates.cardinality());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void narrow_unknown() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+
+        candidates.narrow(new JSecret(dictionary.get("MYTHS")).guess("QUAKZ"));
+        assertEquals(dictionary.length() - 1, candidates.cardinality());
+        assertFalse(candidates.contains(dictionary.indexOf("QUAKE")));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void intersect() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet first = new JCandidateSet(dictionary);
+        JCandidateSet second = new JCandidateSet(dictionary);
+
+        first.narrow(dictionary.indexOf("QUAKE"), JFeedback.pack(0, 0));
+        second.narrow(dictionary.indexOf("PSYCH"), JFeedback.pack(0, 3));
+        JCandidateSet copy = new JCandidateSet(first);
+        copy.intersect(second);
+
+        assertEquals(1, copy.cardinality());
+        assertTrue(copy.contains(dictionary.indexOf("MYTHS")));
+        assertTrue(first.cardinality() > copy.cardinality());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void match() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        Jotto jotto = new Jotto(dictionary);
+        JMatch match = jotto.construct(dictionary.get("MYTHS"));
+        match.start();
+
+        match.guess("QUAKE");
+        JCandidateSet candidates = match.getCandidates();
+        assertNotSame(candidates, match.getCandidates());
+        int remaining = candidates.cardinality();
+
+        match.guess("NYMPH");
+        assertEquals(remaining, candidates.cardinality());
+        assertTrue(match.getCandidates().cardinality() < remaining);
+
+        match.guess("PSYCH");
+        assertEquals(1, match.getCandidates().cardinality());
+        assertTrue(match.getCandidates().contains(dictionary.indexOf("MYTHS")));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void match_copy() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        Jotto jotto = new Jotto(dictionary);
+        JMatch match = jotto.construct(dictionary.get("MYTHS"));
+        match.start();
+
+        match.guess("QUAKE");
+        int remaining = match.getCandidates().cardinality();
+        match.getCandidates().narrow(new JSecret(dictionary.get("PSYCH")).guess("NYMPH"));
+        assertEquals(remaining, match.getCandidates().cardinality());
+    }
+}
@@ -118,4 +118,51 @@ public class JCharsetTest {
         JCharset charset = new JCharset(new char[]{'a', 'b', 'c', 'd'});
         charset.contains("a");
     }
-}
\ No newline at end of file
+
+    @Category(ValidationTests.class)
+    @Test
+    public void get_outside() throws Exception {
+        JCharset charset = new JCharset(new char[]{'c', 'e'});
+        assertEquals(-1, charset.get('a'));
+        assertEquals(-1, charset.get('d'));
+        assertEquals(-1, charset.get('f'));
+        assertEquals(-1, charset.get(Character.MAX_VALUE));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void get_duplicate() throws Exception {
+        JCharset charset = new JCharset(new char[]{'b', 'a', 'b'});
+        assertEquals(0, charset.get('b'));
+        assertEquals(1, charset.get('a'));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void get_default() throws Exception {
+        for (int i = 0; i < JCharset.DEFAULT.length(); i++) {
+            assertEquals(i, JCharset.DEFAULT.get(JCharset.DEFAULT.at(i)));
+        }
+        assertEquals(-1, JCharset.DEFAULT.get('a'));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void encode() throws Exception {
+        byte[] indices = new byte[7];
+        assertTrue(JCharset.DEFAULT.encode("HELLO", indices, 2));
+        assertArrayEquals(new byte[]{0, 0, 7, 4, 11, 11, 14}, indices);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void encode_invalid() throws Exception {
+        assertFalse(JCharset.DEFAULT.encode("HELlO", new byte[5]));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void encode_small() throws Exception {
+        JCharset.DEFAULT.encode("HELLO", new byte[4]);
+    }
+}
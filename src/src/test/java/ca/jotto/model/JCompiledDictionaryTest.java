@@ -0,0 +1,153 @@
+package ca.jotto.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class JCompiledDictionaryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static private byte[] compile(JDictionary dictionary) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        JCompiledDictionary.write(dictionary, os);
+        return os.toByteArray();
+    }
+
+    static private void assertDictionary(JDictionary expected, JDictionary actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.length(), actual.length());
+        assertEquals(expected.minimum(), actual.minimum());
+        assertEquals(expected.maximum(), actual.maximum());
+        assertEquals(expected.fingerprint(), actual.fingerprint());
+        for (int i = 0; i < expected.length(); i++) {
+            assertEquals(expected.at(i).word(), actual.at(i).word());
+            assertEquals(expected.at(i).difficulty(), actual.at(i).difficulty());
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void write_null() throws Exception {
+        JCompiledDictionary.write(null, new ByteArrayOutputStream());
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void write_read() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JDictionary copy = JCompiledDictionary.read(ByteBuffer.wrap(compile(dictionary)));
+
+        assertDictionary(dictionary, copy);
+        assertSame(JCharset.DEFAULT, copy.getCharset());
+        assertTrue(copy.hasPerfectHash());
+        for (int i = 0; i < dictionary.length(); i++) {
+            assertEquals(i, copy.indexOf(dictionary.word(i)));
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void read_version1() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        byte[] bytes = compile(dictionary);
+        int length = 20 + 2 * JCharset.DEFAULT.length() + dictionary.length() * (TestHelper.WORD_SIZE + 1);
+        bytes[7] = 1;
+
+        JDictionary copy = JCompiledDictionary.read(ByteBuffer.wrap(bytes, 0, length));
+        assertDictionary(dictionary, copy);
+        assertFalse(copy.hasPerfectHash());
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IOException.class)
+    public void read_stale() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        byte[] bytes = compile(dictionary);
+        int offset = 20 + 2 * JCharset.DEFAULT.length() + dictionary.length() * (TestHelper.WORD_SIZE + 1);
+        bytes[offset] ^= 1;
+        JCompiledDictionary.read(ByteBuffer.wrap(bytes));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IOException.class)
+    public void read_slots() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        byte[] bytes = compile(dictionary);
+        System.arraycopy(bytes, bytes.length - 4, bytes, bytes.length - 8, 4);
+        JCompiledDictionary.read(ByteBuffer.wrap(bytes));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void write_charset() throws Exception {
+        JCharset charset = new JCharset(new char[]{'x', 'y', 'z'});
+        JDictionary dictionary = new JDictionary(charset, 2, new ArrayList<>(Arrays.asList(
+                new JWord("xy", 0), new JWord("zx", 200))));
+        JDictionary copy = JCompiledDictionary.read(ByteBuffer.wrap(compile(dictionary)));
+
+        assertDictionary(dictionary, copy);
+        assertEquals(2, copy.getCharset().get('z'));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void write_difficulty() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, 5, new ArrayList<>(Arrays.asList(
+                new JWord("OTHER", 256))));
+        compile(dictionary);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IOException.class)
+    public void read_invalid() throws Exception {
+        JCompiledDictionary.read(ByteBuffer.wrap("SOOTH 1\n".getBytes()));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IOException.class)
+    public void read_truncated() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        byte[] bytes = compile(dictionary);
+        JCompiledDictionary.read(ByteBuffer.wrap(bytes, 0, bytes.length - 1));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IOException.class)
+    public void read_letter() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        byte[] bytes = compile(dictionary);
+        bytes[20 + 2 * JCharset.DEFAULT.length()] = (byte) JCharset.DEFAULT.length();
+        JCompiledDictionary.read(ByteBuffer.wrap(bytes));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void compile_open() throws Exception {
+        JDictionary dictionary;
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+
+        Path path = folder.getRoot().toPath().resolve("words.bin");
+        try (InputStream is = new FileInputStream("resources/words.txt");
+             OutputStream os = Files.newOutputStream(path)) {
+            JCompiledDictionary.compile(JCharset.DEFAULT, is, os);
+        }
+
+        int buckets = (dictionary.length() + JPerfectHash.BUCKET_SIZE - 1) / JPerfectHash.BUCKET_SIZE;
+        assertEquals(20 + 2 * 26 + dictionary.length() * 6 + 12 + 4 * (buckets + dictionary.length()), Files.size(path));
+        assertDictionary(dictionary, JCompiledDictionary.open(path));
+    }
+}
@@ -0,0 +1,141 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class JDeductionTest {
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_null() throws Exception {
+        new JDeduction(null, TestHelper.WORD_SIZE);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_zero() throws Exception {
+        new JDeduction(JCharset.DEFAULT, 0);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void add_null() throws Exception {
+        new JDeduction(JCharset.DEFAULT, TestHelper.WORD_SIZE).add(null);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void constructor() throws Exception {
+        JDeduction deduction = new JDeduction(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+
+        assertTrue(deduction.isConsistent());
+        assertTrue(deduction.isPossible(0, 'A'));
+        assertFalse(deduction.isPresent('A'));
+        assertFalse(deduction.isEliminated('A'));
+        assertEquals(Character.UNASSIGNED, deduction.known(0));
+        assertEquals(JCharset.DEFAULT.length(), Long.bitCount(deduction.possible(0)));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void add_exact() throws Exception {
+        JDeduction deduction = new JDeduction(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        deduction.add(new JSecret(new JWord("WORLD", 1)).guess("HELLO"));
+
+        assertEquals('L', deduction.known(3));
+        assertTrue(deduction.isPresent('L'));
+        assertTrue(deduction.isPresent('O'));
+        assertFalse(deduction.isPossible(4, 'O'));
+        assertFalse(deduction.isPossible(2, 'L'));
+        assertTrue(deduction.isEliminated('H'));
+        assertTrue(deduction.isEliminated('E'));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void propagate_requirement() throws Exception {
+        JDeduction deduction = new JDeduction(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        JSecret secret = new JSecret(new JWord("WORLD", 1));
+
+        deduction.add(secret.guess("HELLO"));
+        deduction.add(secret.guess("OTHER"));
+        deduction.add(secret.guess("BOXES"));
+
+        assertEquals('O', deduction.known(1));
+        assertTrue(deduction.isConsistent());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void propagate_pigeonhole() throws Exception {
+        JDeduction deduction = new JDeduction(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        deduction.add(new JSecret(new JWord("ABCDE", 1)).guess("BCDEA"));
+
+        for (int i = 0; i < TestHelper.WORD_SIZE; i++) {
+            assertEquals(4, Long.bitCount(deduction.possible(i)));
+        }
+        assertTrue(deduction.isEliminated('Z'));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void intersect() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        JGuess guess = new JSecret(dictionary.at(0)).guess(dictionary.at(0).word());
+        candidates.narrow(guess);
+
+        JDeduction deduction = new JDeduction(JCharset.DEFAULT, TestHelper.WORD_SIZE);
+        deduction.intersect(candidates);
+
+        for (int i = 0; i < TestHelper.WORD_SIZE; i++) {
+            assertEquals(dictionary.at(0).word().charAt(i), deduction.known(i));
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void sound() throws Exception {
+        JDictionary dictionary;
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+
+        Random random = new Random(12);
+        for (int match = 0; match < 500; match++) {
+            String secret = dictionary.at(random.nextInt(dictionary.length())).word();
+            JSecret jsecret = new JSecret(new JWord(secret, 0));
+            JDeduction deduction = new JDeduction(JCharset.DEFAULT, dictionary.size());
+            JCandidateSet candidates = new JCandidateSet(dictionary);
+
+            for (int turn = 0; turn < 6; turn++) {
+                JGuess guess = jsecret.guess(dictionary.at(random.nextInt(dictionary.length())).word());
+                candidates.narrow(guess);
+                deduction.add(guess);
+                if (turn % 2 == 1) {
+                    deduction.intersect(candidates);
+                }
+
+                assertTrue(deduction.isConsistent());
+                for (int i = 0; i < secret.length(); i++) {
+                    assertTrue(deduction.isPossible(i, secret.charAt(i)));
+                }
+                for (int c = 0; c < JCharset.DEFAULT.length(); c++) {
+                    char ch = JCharset.DEFAULT.at(c);
+                    if (deduction.isPresent(ch)) {
+                        assertTrue(secret.indexOf(ch) >= 0);
+                    }
+                    if (deduction.isEliminated(ch)) {
+                        assertTrue(secret.indexOf(ch) < 0);
+                    }
+                }
+            }
+        }
+    }
+}
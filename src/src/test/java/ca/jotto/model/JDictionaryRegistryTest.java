@@ -0,0 +1,174 @@
+package ca.jotto.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class JDictionaryRegistryTest {
+
+    static private final Path WORDS = Paths.get("resources/words.txt");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path write(String name, String text) throws IOException {
+        Path path = folder.getRoot().toPath().resolve(name);
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void get_unregistered() throws Exception {
+        new JDictionaryRegistry().get(JVariant.DEFAULT);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void variant_equals() throws Exception {
+        char[] characters = new char[JCharset.DEFAULT.length()];
+        for (int i = 0; i < characters.length; i++) {
+            characters[i] = JCharset.DEFAULT.at(i);
+        }
+
+        assertEquals(JVariant.DEFAULT, new JVariant(new JCharset(characters), JVariant.DEFAULT_SIZE));
+        assertEquals(JVariant.DEFAULT.hashCode(), new JVariant(new JCharset(characters), JVariant.DEFAULT_SIZE).hashCode());
+        assertNotEquals(JVariant.DEFAULT, new JVariant(JCharset.DEFAULT, 4));
+        assertNotEquals(JVariant.DEFAULT, new JVariant(JCharset.LOWERCASE, JVariant.DEFAULT_SIZE));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void get_lazy() throws Exception {
+        JDictionaryRegistry registry = new JDictionaryRegistry();
+        JVariant variant = registry.register(JVariant.DEFAULT, WORDS);
+
+        assertFalse(registry.isLoaded(variant));
+        assertEquals(0, registry.footprint(variant));
+
+        JDictionary dictionary = registry.get(variant);
+        assertTrue(registry.isLoaded(variant));
+        assertSame(dictionary, registry.get(JVariant.DEFAULT));
+        assertTrue(dictionary.hasPerfectHash());
+        assertEquals(JVariant.DEFAULT_SIZE, dictionary.size());
+        assertTrue(registry.footprint(variant) >= (long) dictionary.length() * dictionary.size());
+        assertEquals(registry.footprint(variant), registry.footprint());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void get_variants() throws Exception {
+        JDictionary five = new JDictionary(JCharset.DEFAULT, 5, TestHelper.getTestWords());
+        Path compiled = folder.getRoot().toPath().resolve("five.bin");
+        try (OutputStream os = Files.newOutputStream(compiled)) {
+            JCompiledDictionary.write(five, os);
+        }
+
+        char[] lower = new char[JCharset.LOWERCASE.length()];
+        for (int i = 0; i < lower.length; i++) {
+            lower[i] = JCharset.LOWERCASE.at(i);
+        }
+
+        JDictionaryRegistry registry = new JDictionaryRegistry();
+        JVariant four = registry.register(new JVariant(new JCharset(lower), 4), write("four.txt", "jest 0\nmoat 1\n"));
+        JVariant fourUpper = registry.register(new JVariant(JCharset.DEFAULT, 4), write("four_upper.txt", "JEST 0\n"));
+        JVariant six = registry.register(new JVariant(new JCharset(lower), 6), write("six.txt", "jotted 2\n"));
+        JVariant binary = registry.register(JVariant.DEFAULT, compiled);
+
+        assertSame(four.getCharset(), six.getCharset());
+        assertEquals(4, registry.variants().size());
+        assertTrue(registry.get(four).contains("moat"));
+        assertTrue(registry.get(fourUpper).contains("JEST"));
+        assertTrue(registry.get(six).contains("jotted"));
+        assertSame(registry.get(four).getCharset(), registry.get(six).getCharset());
+        assertSame(JCharset.DEFAULT, registry.get(binary).getCharset());
+        assertTrue(registry.get(binary).hasPerfectHash());
+        assertEquals(five.length(), registry.get(binary).length());
+
+        assertTrue(registry.report().contains("total"));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void get_mismatch() throws Exception {
+        JDictionaryRegistry registry = new JDictionaryRegistry();
+        Path path = write("words.txt", "JEST 0\n");
+        JVariant variant = registry.register(JVariant.DEFAULT, path);
+
+        try {
+            registry.get(variant);
+            fail();
+        } catch (IOException ex) {
+            assertFalse(registry.isLoaded(variant));
+        }
+
+        Files.write(path, "JESTS 0\n".getBytes(StandardCharsets.UTF_8));
+        assertTrue(registry.get(variant).contains("JESTS"));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void get_concurrent() throws Exception {
+        JDictionaryRegistry registry = new JDictionaryRegistry();
+        final JVariant variant = registry.register(JVariant.DEFAULT, WORDS);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            ArrayList<Future<JDictionary>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(new Callable<JDictionary>() {
+                    @Override
+                    public JDictionary call() throws Exception {
+                        return registry.get(variant);
+                    }
+                }));
+            }
+
+            JDictionary dictionary = futures.get(0).get();
+            for (Future<JDictionary> future : futures) {
+                assertSame(dictionary, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void preload() throws Exception {
+        JDictionaryRegistry registry = new JDictionaryRegistry();
+        JVariant variant = registry.register(JVariant.DEFAULT, WORDS);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            registry.preload(executor);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(registry.isLoaded(variant));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void jotto_variant() throws Exception {
+        JDictionaryRegistry registry = new JDictionaryRegistry();
+        JVariant variant = registry.register(new JVariant(JCharset.DEFAULT, 4), write("four.txt", "JEST 0\nMOAT 1\n"));
+        Jotto jotto = new Jotto(registry, variant);
+
+        assertEquals(4, jotto.getWordSize());
+        assertEquals(variant, jotto.getVariant());
+        assertSame(registry.get(variant), jotto.getDictionary());
+    }
+}
@@ -5,8 +5,11 @@ import org.junit.experimental.categories.Category;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
 
 import static org.junit.Assert.*;
 
@@ -42,6 +45,23 @@ public class JDictionaryTest {
         new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE + 10, TestHelper.getWordList());
     }
 
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void length_duplicates_long() throws Exception {
+        ArrayList<JWord> words = new ArrayList<>(Arrays.asList(
+                new JWord("ABCDEFGHIJKLMNO", 1),
+                new JWord("ONMLKJIHGFEDCBA", 1),
+                new JWord("ABCDEFGHIJKLMNO", 2)));
+        new JDictionary(JCharset.DEFAULT, 15, words);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_unscorable() throws Exception {
+        ArrayList<JWord> words = new ArrayList<>(Arrays.asList(new JWord("ABCDEFGHIJKLMNOP", 1)));
+        new JDictionary(JCharset.DEFAULT, JFeedback.MAXIMUM_SIZE + 1, words);
+    }
+
     @Category(ValidationTests.class)
     @Test
     public void difficulty_iterative() throws Exception {
@@ -212,7 +232,7 @@ public class JDictionaryTest {
     }
 
     @Category(FunctionalTests.class)
-    @Test(expected = AssertionError.class)
+    @Test(expected = IllegalArgumentException.class)
     public void length_duplicates() throws Exception {
         ArrayList<JWord> words = TestHelper.getDuplicates();
         new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, words);
@@ -336,4 +356,241 @@ public class JDictionaryTest {
         InputStream is = new ByteArrayInputStream("HELLO! 1\n".getBytes());
         JDictionary.fromStream(JCharset.DEFAULT, is);
     }
-}
\ No newline at end of file
+
+    @Category(ValidationTests.class)
+    @Test
+    public void fromStream_crlf() throws Exception {
+        InputStream is = new ByteArrayInputStream("SOOTH 1\r\nCARVE 12\r\nRECUT 2 ".getBytes());
+        JDictionary dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+
+        assertEquals(3, dictionary.length());
+        assertEquals(12, dictionary.get("CARVE").difficulty());
+        assertEquals(2, dictionary.get("RECUT").difficulty());
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void fromStream_chunks() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (char a = 'A'; a <= 'Z'; a++) {
+            for (char b = 'A'; b <= 'Z'; b++) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    builder.append(a).append(b).append(c).append(' ').append(a - 'A').append('\n');
+                }
+            }
+        }
+        JDictionary dictionary = JDictionary.fromStream(JCharset.DEFAULT, new ByteArrayInputStream(builder.toString().getBytes()));
+
+        assertEquals(26 * 26 * 26, dictionary.length());
+        assertEquals("ZZZ", dictionary.at(dictionary.length() - 1).word());
+        assertEquals(25, dictionary.at(dictionary.length() - 1).difficulty());
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void fromStream_unicode() throws Exception {
+        JCharset charset = new JCharset(new char[]{'\u00C9', 'T', 'E'});
+        InputStream is = new ByteArrayInputStream("\u00C9T\u00C9 1\nTET 2\n".getBytes(StandardCharsets.UTF_8));
+        JDictionary dictionary = JDictionary.fromStream(charset, is);
+
+        assertEquals(2, dictionary.length());
+        assertTrue(dictionary.contains("\u00C9T\u00C9"));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void fromStream_format_spaces() throws Exception {
+        InputStream is = new ByteArrayInputStream("SOOTH  1\n".getBytes());
+        JDictionary.fromStream(JCharset.DEFAULT, is);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void fromStream_format_line() throws Exception {
+        InputStream is = new ByteArrayInputStream("SOOTH 1\n\nCARVE 1\n".getBytes());
+        JDictionary.fromStream(JCharset.DEFAULT, is);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void fromStream_format_size() throws Exception {
+        InputStream is = new ByteArrayInputStream("SOOTH 1\nCARVED 1\n".getBytes());
+        JDictionary.fromStream(JCharset.DEFAULT, is);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void fromStream_format_overflow() throws Exception {
+        InputStream is = new ByteArrayInputStream("SOOTH 2147483648\n".getBytes());
+        JDictionary.fromStream(JCharset.DEFAULT, is);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void indexOf() throws Exception {
+        ArrayList<JWord> words = TestHelper.getWordList();
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, words);
+
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(i, dictionary.indexOf(words.get(i).word()));
+            assertEquals(words.get(i).word(), dictionary.at(i).word());
+        }
+        assertEquals(-1, dictionary.indexOf("SOOTH"));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void indexOf_missing() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+
+        assertEquals(-1, dictionary.indexOf("NYMP"));
+        assertEquals(-1, dictionary.indexOf("NYMPHS"));
+        assertEquals(-1, dictionary.indexOf("nymph"));
+        assertEquals(-1, dictionary.indexOf("AAAAA"));
+        assertEquals(-1, dictionary.indexOf("ZZZZZ"));
+        assertFalse(dictionary.contains("ZZZZZ"));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void indexOf_long() throws Exception {
+        Random random = new Random(7);
+        ArrayList<JWord> words = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            char[] word = new char[JFeedback.MAXIMUM_SIZE];
+            for (int l = 0; l < word.length; l++) {
+                word[l] = JCharset.DEFAULT.at(random.nextInt(JCharset.DEFAULT.length()));
+            }
+            words.add(new JWord(new String(word), i % 3));
+        }
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, JFeedback.MAXIMUM_SIZE, words);
+
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(i, dictionary.indexOf(words.get(i).word()));
+            assertEquals(words.get(i), dictionary.get(words.get(i).word()));
+        }
+        assertEquals(-1, dictionary.indexOf("AAAAAAAAAAAAAAA"));
+        assertEquals(-1, dictionary.indexOf("ZZZZZZZZZZZZZZZ"));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void word_difficulty() throws Exception {
+        ArrayList<JWord> words = TestHelper.getDifficultyList(1, 5);
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, words);
+
+        for (int i = 0; i < words.size(); i++) {
+            assertEquals(words.get(i).word(), dictionary.word(i));
+            assertEquals(words.get(i).difficulty(), dictionary.difficulty(i));
+            assertEquals(words.get(i), dictionary.at(i));
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void random_gap() throws Exception {
+        ArrayList<JWord> words = new ArrayList<>();
+        words.add(new JWord("NYMPH", 1));
+        words.add(new JWord("MYTHS", 3));
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, words);
+
+        assertNull(dictionary.random(2));
+        assertEquals(words.get(1), dictionary.random(3));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void random_seeded() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList());
+        SplittableRandom first = new SplittableRandom(11);
+        SplittableRandom second = new SplittableRandom(11);
+
+        for (int i = 0; i < 100; i++) {
+            JWord word = dictionary.random(dictionary.minimum(), first);
+            assertEquals(word, dictionary.random(dictionary.minimum(), second));
+            assertEquals(dictionary.minimum(), word.difficulty());
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void sample() throws Exception {
+        ArrayList<JWord> words = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            char[] word = new char[TestHelper.WORD_SIZE];
+            for (int l = 0, value = i; l < word.length; l++, value /= 26) {
+                word[l] = (char) ('A' + value % 26);
+            }
+            words.add(new JWord(new String(word), i % 2));
+        }
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, words);
+
+        int[] sample = dictionary.sample(1, 40, new SplittableRandom(13));
+        assertArrayEquals(sample, dictionary.sample(1, 40, new SplittableRandom(13)));
+        assertEquals(40, sample.length);
+        assertEquals(40, Arrays.stream(sample).distinct().count());
+        for (int index : sample) {
+            assertEquals(1, dictionary.difficulty(index));
+        }
+
+        int[] all = dictionary.sample(0, 100, new SplittableRandom(17));
+        Arrays.sort(all);
+        for (int i = 0; i < all.length; i++) {
+            assertEquals(2 * i, all[i]);
+        }
+        assertEquals(0, dictionary.sample(0, 0).length);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void sample_uniform() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        SplittableRandom random = new SplittableRandom(19);
+        int[][] counts = new int[dictionary.length()][2];
+        int trials = 20000;
+        for (int i = 0; i < trials; i++) {
+            int[] sample = dictionary.sample(1, 2, random);
+            counts[sample[0]][0]++;
+            counts[sample[1]][1]++;
+        }
+
+        int words = 0;
+        for (int i = 0; i < dictionary.length(); i++) {
+            if (dictionary.difficulty(i) == 1) {
+                words++;
+            }
+        }
+        for (int i = 0; i < dictionary.length(); i++) {
+            for (int position = 0; position < 2; position++) {
+                double expected = dictionary.difficulty(i) == 1 ? (double) trials / words : 0;
+                assertEquals(expected, counts[i][position], 0.1 * trials / words);
+            }
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void sample_count() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        dictionary.sample(1, dictionary.length() + 1, new SplittableRandom(1));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void at_bounds() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList());
+        dictionary.at(TestHelper.WORDS);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void score() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        int guess = dictionary.indexOf("NYMPH");
+        int secret = dictionary.indexOf("MYTHS");
+
+        assertEquals(JFeedback.pack(1, 2), dictionary.score(guess, secret));
+        dictionary.feedbackMatrix();
+        assertEquals(JFeedback.pack(1, 2), dictionary.score(guess, secret));
+    }
+}
@@ -0,0 +1,147 @@
+package ca.jotto.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class JFeedbackMatrixTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    static private void assertMatrix(JDictionary dictionary, JFeedbackMatrix matrix) {
+        assertEquals(dictionary.length(), matrix.length());
+        for (int guess = 0; guess < dictionary.length(); guess++) {
+            for (int secret = 0; secret < dictionary.length(); secret++) {
+                int expected = JFeedback.score(dictionary.at(guess).word(), dictionary.at(secret).word());
+                assertEquals(expected, matrix.get(guess, secret));
+            }
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void build_null() throws Exception {
+        JFeedbackMatrix.build(null);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void build() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        assertMatrix(dictionary, JFeedbackMatrix.build(dictionary));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void get_bounds() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JFeedbackMatrix.build(dictionary).get(0, dictionary.length());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void dictionary() throws Exception {
+        JDictionary dictionary;
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+
+        Random random = new Random(2);
+        int[] expected = new int[1000];
+        for (int i = 0; i < expected.length; i += 2) {
+            expected[i] = random.nextInt(dictionary.length());
+            expected[i + 1] = random.nextInt(dictionary.length());
+        }
+
+        int[] scores = new int[expected.length / 2];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = dictionary.score(expected[2 * i], expected[2 * i + 1]);
+        }
+
+        assertFalse(dictionary.hasFeedbackMatrix());
+        JFeedbackMatrix matrix = dictionary.feedbackMatrix();
+        assertTrue(dictionary.hasFeedbackMatrix());
+        assertSame(matrix, dictionary.feedbackMatrix());
+        assertEquals(dictionary.length(), matrix.length());
+
+        for (int i = 0; i < scores.length; i++) {
+            assertEquals(scores[i], dictionary.score(expected[2 * i], expected[2 * i + 1]));
+            assertEquals(scores[i], matrix.get(expected[2 * i], expected[2 * i + 1]));
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void open_missing() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        assertNull(JFeedbackMatrix.open(folder.getRoot().toPath().resolve("missing.jfbm"), dictionary));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void write_open() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        Path path = folder.getRoot().toPath().resolve("words.jfbm");
+
+        JFeedbackMatrix.build(dictionary).write(path, dictionary);
+        assertEquals(JFeedbackMatrix.HEADER + dictionary.length() * dictionary.length(), Files.size(path));
+        assertMatrix(dictionary, JFeedbackMatrix.open(path, dictionary));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void open_stale() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JDictionary other = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getDifficultyList(1, 5));
+        Path path = folder.getRoot().toPath().resolve("words.jfbm");
+
+        JFeedbackMatrix.build(dictionary).write(path, dictionary);
+        assertNotEquals(dictionary.fingerprint(), other.fingerprint());
+        assertNull(JFeedbackMatrix.open(path, other));
+
+        JFeedbackMatrix matrix = other.feedbackMatrix(path);
+        assertMatrix(other, matrix);
+        assertNotNull(JFeedbackMatrix.open(path, other));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void open_corrupt() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        Path path = folder.getRoot().toPath().resolve("words.jfbm");
+
+        JFeedbackMatrix.build(dictionary).write(path, dictionary);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek(JFeedbackMatrix.HEADER + 3);
+            file.write(0x7F);
+        }
+        assertNull(JFeedbackMatrix.open(path, dictionary));
+
+        assertMatrix(dictionary, dictionary.feedbackMatrix(path));
+        assertNotNull(JFeedbackMatrix.open(path, dictionary));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void open_truncated() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        Path path = folder.getRoot().toPath().resolve("words.jfbm");
+
+        JFeedbackMatrix.build(dictionary).write(path, dictionary);
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        assertNull(JFeedbackMatrix.open(path, dictionary));
+    }
+}
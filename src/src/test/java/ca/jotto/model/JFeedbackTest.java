@@ -0,0 +1,137 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class JFeedbackTest {
+
+    private static final String[] REPEATED = new String[]{
+            "AAAAA", "AAAAC", "CBBBB", "ABBBB", "SOOTH", "SHOOK", "BOOKS", "ABABA", "BABAB", "AABBC", "CCBAA"
+    };
+
+    static private JWordMatch[] reference(String guess, String secret) {
+        StringBuilder value = new StringBuilder(secret);
+
+        JWordMatch[] matches = new JWordMatch[guess.length()];
+        for (int i = 0; i < guess.length(); i++) {
+            if (guess.charAt(i) == value.charAt(i)) {
+                value.setCharAt(i, (char) Character.UNASSIGNED);
+                matches[i] = JWordMatch.EXACT;
+            } else {
+                matches[i] = JWordMatch.NONE;
+            }
+        }
+
+        for (int i = 0; i < guess.length(); i++) {
+            if (matches[i] != JWordMatch.NONE) {
+                continue;
+            }
+
+            for (int r = 0; r < secret.length(); r++) {
+                if (guess.charAt(i) == secret.charAt(r) && value.charAt(r) != Character.UNASSIGNED) {
+                    value.setCharAt(r, (char) Character.UNASSIGNED);
+                    matches[i] = JWordMatch.PARTIAL;
+                }
+            }
+        }
+
+        return matches;
+    }
+
+    static private byte[] encode(String word, int offset) {
+        byte[] indices = new byte[word.length()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = (byte) (JCharset.DEFAULT.get(word.charAt(i)) + offset);
+        }
+        return indices;
+    }
+
+    static private void check(String guess, String secret) {
+        JWordMatch[] expected = reference(guess, secret);
+        int exact = 0, partial = 0;
+        for (JWordMatch match : expected) {
+            if (match == JWordMatch.EXACT) {
+                exact++;
+            } else if (match == JWordMatch.PARTIAL) {
+                partial++;
+            }
+        }
+
+        int packed = JFeedback.pack(exact, partial);
+        assertArrayEquals(guess + "/" + secret, expected, JWordMatch.compareTo(guess, secret));
+        assertEquals(guess + "/" + secret, packed, JFeedback.score(guess, secret));
+        assertEquals(guess + "/" + secret, packed, JFeedback.score(encode(guess, 0), 0, encode(secret, 0), 0, guess.length()));
+        assertEquals(guess + "/" + secret, packed, JFeedback.score(encode(guess, 100), 0, encode(secret, 100), 0, guess.length()));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void pack() throws Exception {
+        int packed = JFeedback.pack(3, 2);
+        assertEquals(3, JFeedback.exact(packed));
+        assertEquals(2, JFeedback.partial(packed));
+        assertEquals(256, JFeedback.CAPACITY);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void pack_overflow() throws Exception {
+        JFeedback.pack(JFeedback.MAXIMUM_SIZE + 1, 0);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void score_overflow() throws Exception {
+        JFeedback.score("ABCDEFGHIJKLMNOP", "PONMLKJIHGFEDCBA");
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalArgumentException.class)
+    public void score_encoded_overflow() throws Exception {
+        byte[] words = new byte[2 * (JFeedback.MAXIMUM_SIZE + 1)];
+        JFeedback.score(words, 0, words, JFeedback.MAXIMUM_SIZE + 1, JFeedback.MAXIMUM_SIZE + 1);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void score_offset() throws Exception {
+        byte[] words = new byte[10];
+        System.arraycopy(encode("NYMPH", 0), 0, words, 0, 5);
+        System.arraycopy(encode("MYTHS", 0), 0, words, 5, 5);
+
+        int packed = JFeedback.score(words, 0, words, 5, 5);
+        assertEquals(1, JFeedback.exact(packed));
+        assertEquals(2, JFeedback.partial(packed));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void repeated() throws Exception {
+        for (String guess : REPEATED) {
+            for (String secret : REPEATED) {
+                check(guess, secret);
+            }
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void dictionary() throws Exception {
+        JWord[] words;
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            words = JDictionary.fromStream(JCharset.DEFAULT, is).toArray();
+        }
+
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            check(words[random.nextInt(words.length)].word(), words[random.nextInt(words.length)].word());
+        }
+    }
+}
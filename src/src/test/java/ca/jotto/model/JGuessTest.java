@@ -52,6 +52,16 @@ public class JGuessTest {
         new JGuess(word, matches, exact, partial);
     }
 
+    @Category(ValidationTests.class)
+    @Test(expected = IllegalStateException.class)
+    public void matches_unknown() throws Exception {
+        JGuess guess = new JGuess("OTHER", 1, 2);
+        assertEquals("OTHER", guess.guess());
+        assertEquals(1, guess.exact());
+        assertEquals(2, guess.partial());
+        guess.matchAt(0);
+    }
+
     @Category(ValidationTests.class)
     @Test(expected = AssertionError.class)
     public void constructor_guess_null() throws Exception {
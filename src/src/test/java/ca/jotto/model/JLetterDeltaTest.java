@@ -0,0 +1,71 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import static org.junit.Assert.*;
+
+public class JLetterDeltaTest {
+
+    static private JLetterDelta getDelta() {
+        JCharset charset = JCharset.DEFAULT;
+        long eliminated = (1L << charset.get('E')) | (1L << charset.get('T'));
+        long discovered = 1L << charset.get('L');
+        return new JLetterDelta(charset, new long[]{eliminated}, new long[1], new long[]{discovered});
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_overlap() throws Exception {
+        new JLetterDelta(JCharset.DEFAULT, new long[]{1L}, new long[1], new long[]{1L});
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void status() throws Exception {
+        JLetterDelta delta = getDelta();
+        assertEquals(3, delta.length());
+        assertFalse(delta.isEmpty());
+        assertEquals(JLetterStatus.ELIMINATED, delta.status('E'));
+        assertEquals(JLetterStatus.ELIMINATED, delta.status('T'));
+        assertEquals(JLetterStatus.DISCOVERED, delta.status('L'));
+        assertEquals(JLetterStatus.NONE, delta.status('A'));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void next() throws Exception {
+        JLetterDelta delta = getDelta();
+        StringBuilder letters = new StringBuilder();
+        for (int i = delta.next(0); i >= 0; i = delta.next(i + 1)) {
+            letters.append(delta.getCharset().at(i));
+        }
+        assertEquals("ELT", letters.toString());
+        assertEquals(-1, delta.next(JCharset.DEFAULT.length()));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void next_words() throws Exception {
+        StringBuilder characters = new StringBuilder();
+        for (char ch = 0x100; ch < 0x100 + 100; ch++) {
+            characters.append(ch);
+        }
+        JCharset charset = new JCharset(characters.toString().toCharArray());
+        JLetterDelta delta = new JLetterDelta(charset, new long[]{1L, 0}, new long[2], new long[]{0, 1L << 35});
+
+        assertEquals(0, delta.next(0));
+        assertEquals(99, delta.next(1));
+        assertEquals(JLetterStatus.DISCOVERED, delta.status(99));
+        assertEquals(-1, delta.next(100));
+        assertEquals(-1, delta.next(128));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void empty() throws Exception {
+        JLetterDelta delta = new JLetterDelta(JCharset.DEFAULT, new long[1], new long[1], new long[1]);
+        assertTrue(delta.isEmpty());
+        assertEquals(-1, delta.next(0));
+    }
+}
@@ -1,11 +1,17 @@
 package ca.jotto.model;
 
 import ca.jotto.model.listeners.JottoEventMap;
+import ca.jotto.model.listeners.LetterAdapter;
+import ca.jotto.model.listeners.LetterListener;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
-import static org.junit.Assert.assertNotNull;
-import static org.junit.Assert.assertTrue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
 
 public class JMatchEventTest {
 
@@ -30,6 +36,224 @@ public class JMatchEventTest {
         eventMap.removeListener(listener);
     }
 
+    @Category(FunctionalTests.class)
+    @Test
+    public void removeListener_dispatch() throws Exception {
+        JottoEventMap eventMap = new JottoEventMap();
+        MutableBoolean kept = new MutableBoolean(false);
+        MutableBoolean removed = new MutableBoolean(false);
+
+        OnExact listener = new OnExact(removed);
+        eventMap.addListener(new OnExact(kept));
+        eventMap.addListener(listener);
+        eventMap.removeListener(listener);
+        eventMap.removeListener(listener);
+
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()));
+        eventMap.onCharacterExact(jotto, 'A');
+        assertTrue(kept.get());
+        assertFalse(removed.get());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void addListener_interfaces() throws Exception {
+        final int[] events = new int[1];
+        JottoEventMap eventMap = new JottoEventMap();
+        eventMap.addListener(new OnAny() {
+            @Override
+            protected void on() {
+                events[0]++;
+            }
+        });
+
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        eventMap.onTurnGuess(jotto, TestHelper.getGuess());
+        eventMap.onCharacterExact(jotto, 'A');
+        eventMap.onMatchStart(jotto, match);
+        assertEquals(3, events[0]);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void addListener_dispatch() throws Exception {
+        final JottoEventMap eventMap = new JottoEventMap();
+        final MutableBoolean added = new MutableBoolean(false);
+        eventMap.addListener(new OnExact(new MutableBoolean(false)) {
+            @Override
+            public void onCharacterExact(Jotto jotto, char character) {
+                eventMap.removeListener(this);
+                eventMap.addListener(new OnExact(added));
+            }
+        });
+
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()));
+        eventMap.onCharacterExact(jotto, 'A');
+        assertFalse(added.get());
+        eventMap.onCharacterExact(jotto, 'A');
+        assertTrue(added.get());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void addListener_concurrent() throws Exception {
+        final int threads = 16;
+        final int listeners = 200;
+        final JottoEventMap eventMap = new JottoEventMap();
+        final Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()));
+        final AtomicInteger events = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        OnAny[] added = new OnAny[listeners];
+                        for (int i = 0; i < listeners; i++) {
+                            added[i] = new OnAny() {
+                                @Override
+                                protected void on() {
+                                    events.incrementAndGet();
+                                }
+                            };
+                            eventMap.addListener(added[i]);
+                        }
+                        for (int i = 0; i < listeners; i += 2) {
+                            eventMap.removeListener(added[i]);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            Future<?> dispatcher = executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    start.await();
+                    for (int i = 0; i < 1000; i++) {
+                        eventMap.onCharacterExact(jotto, 'A');
+                    }
+                    return null;
+                }
+            });
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            dispatcher.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        events.set(0);
+        eventMap.onCharacterExact(jotto, 'A');
+        assertEquals(threads * listeners / 2, events.get());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void onLettersChanged_adapter() throws Exception {
+        JottoEventMap eventMap = new JottoEventMap();
+        final StringBuilder characters = new StringBuilder();
+        eventMap.addListener(new OnExact(new MutableBoolean(false)) {
+            @Override
+            public void onCharacterEliminated(Jotto jotto, char character) {
+                characters.append('-').append(character);
+            }
+
+            @Override
+            public void onCharacterExact(Jotto jotto, char character) {
+                characters.append('+').append(character);
+            }
+        });
+
+        JCharset charset = JCharset.DEFAULT;
+        long eliminated = (1L << charset.get('E')) | (1L << charset.get('T'));
+        long discovered = 1L << charset.get('L');
+        Jotto jotto = new Jotto(new JDictionary(charset, 5, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        eventMap.onLettersChanged(jotto, match, new JLetterDelta(charset, new long[]{eliminated}, new long[1], new long[]{discovered}));
+        assertEquals("-E+L-T", characters.toString());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void onLettersChanged_letter() throws Exception {
+        JottoEventMap eventMap = new JottoEventMap();
+        final int[] events = new int[2];
+        eventMap.addListener(new LetterListener() {
+            @Override
+            public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+                events[0]++;
+            }
+        });
+        eventMap.addListener(new OnAny() {
+            @Override
+            protected void on() {
+                events[1]++;
+            }
+        });
+
+        JCharset charset = JCharset.DEFAULT;
+        Jotto jotto = new Jotto(new JDictionary(charset, 5, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        eventMap.onLettersChanged(jotto, match, new JLetterDelta(charset, new long[]{0b111}, new long[1], new long[]{0b11000}));
+        assertEquals(1, events[0]);
+        assertEquals(5, events[1]);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void onLettersChanged_both() throws Exception {
+        JottoEventMap eventMap = new JottoEventMap();
+        final int[] events = new int[2];
+        eventMap.addListener(new LetterStateListener(events));
+
+        JCharset charset = JCharset.DEFAULT;
+        Jotto jotto = new Jotto(new JDictionary(charset, 5, TestHelper.getWordList()));
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        eventMap.onLettersChanged(jotto, match, new JLetterDelta(charset, new long[]{0b111}, new long[1], new long[]{0b11000}));
+        assertEquals(1, events[0]);
+        assertEquals(0, events[1]);
+
+        LetterAdapter adapter = new LetterAdapter(new LetterStateListener(events));
+        adapter.onLettersChanged(jotto, match, new JLetterDelta(charset, new long[]{0b111}, new long[1], new long[]{0b11000}));
+        assertEquals(5, events[1]);
+    }
+
+    /**
+     * Counts the letter events it receives, and the character events separately.
+     */
+    static private class LetterStateListener extends OnExact implements LetterListener {
+
+        private final int[] _events;
+
+        LetterStateListener(int[] events) {
+            super(new MutableBoolean(false));
+            _events = events;
+        }
+
+        @Override
+        public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+            _events[0]++;
+        }
+
+        @Override
+        public void onCharacterEliminated(Jotto jotto, char character) {
+            _events[1]++;
+        }
+
+        @Override
+        public void onCharacterExact(Jotto jotto, char character) {
+            _events[1]++;
+        }
+    }
+
     @Category(ValidationTests.class)
     @Test(expected = AssertionError.class)
     public void addListener_null() throws Exception {
@@ -129,7 +353,8 @@ public class JMatchEventTest {
         }
 
         Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, 5, TestHelper.getWordList()));
-        eventMap.onGameStateChanged(jotto, JGameState.PLAYING, JGameState.WON);
+        JMatch match = jotto.construct(jotto.getDictionary().random(TestHelper.SINGLE_DIFFICULTY));
+        eventMap.onGameStateChanged(jotto, match, JGameState.PLAYING, JGameState.WON);
 
         for (int i = 0; i < LISTENERS; i++) {
             assertTrue(flags[i].get());
@@ -0,0 +1,127 @@
+package ca.jotto.model;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class JOpeningBookTest {
+
+    private static final int DIFFICULTY = 0;
+    private static final long SEED = 0x4A4F54544FL;
+
+    private static JDictionary dictionary;
+    private static JOpeningBook book;
+
+    @BeforeClass
+    public static void generate() throws Exception {
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+        dictionary.feedbackMatrix();
+        book = JOpeningBook.generate(new JSolver(dictionary, new JEntropyStrategy()), DIFFICULTY);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void generate_null() throws Exception {
+        JOpeningBook.generate(null, DIFFICULTY);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void first() throws Exception {
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy());
+        JCandidateSet candidates = new JCandidateSet(dictionary, DIFFICULTY);
+
+        assertEquals(DIFFICULTY, book.difficulty());
+        assertEquals(solver.suggest(candidates), book.first());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void second() throws Exception {
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy());
+        JCandidateSet candidates = new JCandidateSet(dictionary, DIFFICULTY);
+        int secret = candidates.next(0);
+        int feedback = dictionary.score(book.first(), secret);
+
+        candidates.narrow(book.first(), feedback);
+        assertEquals(solver.suggest(candidates), book.second(feedback));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void write_read() throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        book.write(os);
+        JOpeningBook copy = JOpeningBook.read(dictionary, new ByteArrayInputStream(os.toByteArray()));
+
+        assertNotNull(copy);
+        assertEquals(book.difficulty(), copy.difficulty());
+        assertEquals(book.first(), copy.first());
+        for (int feedback = 0; feedback < JFeedback.CAPACITY; feedback++) {
+            assertEquals(book.second(feedback), copy.second(feedback));
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void read_stale() throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        book.write(os);
+
+        JDictionary other = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        assertNull(JOpeningBook.read(other, new ByteArrayInputStream(os.toByteArray())));
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = IOException.class)
+    public void read_invalid() throws Exception {
+        JOpeningBook.read(dictionary, new ByteArrayInputStream("SOOTH 1\n".getBytes()));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void solver() throws Exception {
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy(), ForkJoinPool.commonPool(), 0, book);
+        JSecret secret = new JSecret(dictionary.random(DIFFICULTY, new SplittableRandom(SEED)));
+        JCandidateSet candidates = new JCandidateSet(dictionary, DIFFICULTY);
+        JHistory history = new JHistory(dictionary.getCharset(), dictionary.size());
+
+        int first = solver.suggest(candidates, history);
+        assertEquals(book.first(), first);
+
+        JGuess guess = secret.guess(dictionary.word(first));
+        history.add(guess);
+        candidates.narrow(guess);
+        if (!guess.correct()) {
+            int expected = book.second(JFeedback.pack(guess.exact(), guess.partial()));
+            assertEquals(expected, solver.suggest(candidates, history));
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void solver_candidates() throws Exception {
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy(), ForkJoinPool.commonPool(), 0, book);
+        JSolver unbooked = new JSolver(dictionary, new JEntropyStrategy());
+        JHistory history = new JHistory(dictionary.getCharset(), dictionary.size());
+
+        JCandidateSet candidates = new JCandidateSet(dictionary, DIFFICULTY);
+        int secret = candidates.next(0);
+        candidates.narrow(book.first(), dictionary.score(book.first(), secret));
+        assertTrue(candidates.cardinality() > 2);
+
+        assertEquals(unbooked.suggest(candidates, history), solver.suggest(candidates, history));
+    }
+}
@@ -0,0 +1,78 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class JPerfectHashTest {
+
+    static private JDictionary getDictionary() throws Exception {
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            return JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void build_null() throws Exception {
+        JPerfectHash.build(null);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void build_empty() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, new ArrayList<JWord>());
+        JPerfectHash hash = dictionary.perfectHash();
+
+        assertEquals(0, hash.length());
+        assertEquals(-1, dictionary.indexOf("SOOTH"));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void indexOf() throws Exception {
+        JDictionary dictionary = getDictionary();
+        String[] words = new String[dictionary.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = dictionary.word(i);
+        }
+
+        assertFalse(dictionary.hasPerfectHash());
+        JPerfectHash hash = dictionary.perfectHash();
+        assertTrue(dictionary.hasPerfectHash());
+        assertSame(hash, dictionary.perfectHash());
+        assertEquals(dictionary.length(), hash.length());
+
+        for (int i = 0; i < words.length; i++) {
+            assertEquals(i, dictionary.indexOf(words[i]));
+            assertTrue(dictionary.contains(words[i]));
+        }
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void indexOf_missing() throws Exception {
+        JDictionary dictionary = getDictionary();
+        dictionary.perfectHash();
+
+        assertEquals(-1, dictionary.indexOf("ZZZZZ"));
+        assertEquals(-1, dictionary.indexOf("QQQQQ"));
+        assertEquals(-1, dictionary.indexOf("ZZZZ"));
+        assertEquals(-1, dictionary.indexOf("zzzzz"));
+        assertFalse(dictionary.contains("XXXXX"));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void bitsPerWord() throws Exception {
+        JPerfectHash hash = JPerfectHash.build(getDictionary());
+
+        assertTrue(hash.bitsPerWord() <= 32.0 / JPerfectHash.BUCKET_SIZE + 0.01);
+        assertEquals(hash.bitsPerWord() + 32.0, hash.totalBitsPerWord(), 0.01);
+    }
+}
@@ -30,6 +30,17 @@ public class JSecretTest {
         assertEquals(word.length(), guess.exact());
     }
 
+    @Category(ValidationTests.class)
+    @Test
+    public void long_match() throws Exception {
+        JSecret secret = new JSecret(new JWord("ABCDEFGHIJKLMNOPQRST", 0));
+        JGuess guess = secret.guess("ABCDEFGHIJKLMNOPQRTS");
+
+        assertEquals(18, guess.exact());
+        assertEquals(2, guess.partial());
+        assertEquals(JWordMatch.PARTIAL, guess.matchAt(19));
+    }
+
     @Category(ValidationTests.class)
     @Test
     public void no_match() throws Exception {
@@ -0,0 +1,206 @@
+package ca.jotto.model;
+
+import ca.jotto.model.listeners.LetterListener;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class JSessionManagerTest {
+
+    static private final int SHARDS = 4;
+    static private final long IDLE_TIMEOUT = 60;
+
+    static private JSessionManager getManager() {
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        return new JSessionManager(jotto, SHARDS, IDLE_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_shards() throws Exception {
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        new JSessionManager(jotto, 3, IDLE_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_timeout() throws Exception {
+        Jotto jotto = new Jotto(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getWordList()));
+        new JSessionManager(jotto, SHARDS, 0, TimeUnit.SECONDS);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void open_null() throws Exception {
+        getManager().open(null);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void open() throws Exception {
+        JSessionManager manager = getManager();
+        long first = manager.open(TestHelper.SINGLE_DIFFICULTY);
+        long second = manager.open(TestHelper.SINGLE_DIFFICULTY);
+
+        assertNotEquals(first, second);
+        assertEquals(2, manager.size());
+        assertNotNull(manager.get(first));
+        assertNotSame(manager.get(first), manager.get(second));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void guess() throws Exception {
+        JSessionManager manager = getManager();
+        JWord secret = manager.getJotto().getDictionary().random(TestHelper.SINGLE_DIFFICULTY);
+        long id = manager.open(secret);
+
+        JMatch match = manager.get(id);
+        match.start();
+        match.guess(secret.word());
+        assertTrue(manager.get(id).hasWon());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void events() throws Exception {
+        JSessionManager manager = getManager();
+        JMatch first = manager.get(manager.open(TestHelper.SINGLE_DIFFICULTY));
+        JMatch second = manager.get(manager.open(TestHelper.SINGLE_DIFFICULTY));
+
+        final List<JMatch> states = new ArrayList<>();
+        final List<JMatch> letters = new ArrayList<>();
+        manager.getJotto().getEventMap().addListener(new OnChanged(new MutableBoolean(false)) {
+            @Override
+            public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+                states.add(match);
+            }
+        });
+        manager.getJotto().getEventMap().addListener(new LetterListener() {
+            @Override
+            public void onLettersChanged(Jotto jotto, JMatch match, JLetterDelta delta) {
+                letters.add(match);
+            }
+        });
+
+        first.start();
+        second.start();
+        second.guess("EJECT");
+        assertEquals(Arrays.asList(first, second), states);
+        assertEquals(Collections.singletonList(second), letters);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void close() throws Exception {
+        JSessionManager manager = getManager();
+        long id = manager.open(TestHelper.SINGLE_DIFFICULTY);
+        JMatch match = manager.get(id);
+
+        assertSame(match, manager.close(id));
+        assertNull(manager.close(id));
+        assertNull(manager.get(id));
+        assertEquals(0, manager.size());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void evict() throws Exception {
+        JSessionManager manager = getManager();
+        long idle = manager.open(TestHelper.SINGLE_DIFFICULTY);
+        Thread.sleep(1);
+        long opened = System.nanoTime();
+        long active = manager.open(TestHelper.SINGLE_DIFFICULTY);
+
+        assertEquals(0, manager.evict());
+        assertEquals(1, manager.evict(opened + TimeUnit.SECONDS.toNanos(IDLE_TIMEOUT)));
+        assertNull(manager.get(idle));
+        assertNotNull(manager.get(active));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void evict_accessed() throws Exception {
+        JSessionManager manager = getManager();
+        long id = manager.open(TestHelper.SINGLE_DIFFICULTY);
+        long timeout = TimeUnit.SECONDS.toNanos(IDLE_TIMEOUT);
+
+        Thread.sleep(1);
+        long accessed = System.nanoTime();
+        manager.get(id);
+
+        assertEquals(0, manager.evict(accessed + timeout - 1));
+        assertEquals(1, manager.evict(System.nanoTime() + timeout + 1));
+        assertNull(manager.get(id));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void metrics() throws Exception {
+        JSessionManager manager = getManager();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(manager.open(TestHelper.SINGLE_DIFFICULTY));
+        }
+        for (int i = 0; i < 10; i++) {
+            manager.close(ids.get(i));
+        }
+        manager.evict(System.nanoTime() + TimeUnit.SECONDS.toNanos(IDLE_TIMEOUT) + 1);
+
+        long opened = 0;
+        long closed = 0;
+        long evicted = 0;
+        for (int i = 0; i < manager.shards(); i++) {
+            assertEquals(0, manager.size(i));
+            opened += manager.opened(i);
+            closed += manager.closed(i);
+            evicted += manager.evicted(i);
+        }
+        assertEquals(100, opened);
+        assertEquals(10, closed);
+        assertEquals(90, evicted);
+        assertTrue(manager.report().contains("total"));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void open_concurrent() throws Exception {
+        final int threads = 8;
+        final int matches = 1000;
+        final JSessionManager manager = getManager();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(new Callable<List<Long>>() {
+                    @Override
+                    public List<Long> call() throws Exception {
+                        List<Long> ids = new ArrayList<>();
+                        for (int i = 0; i < matches; i++) {
+                            ids.add(manager.open(TestHelper.SINGLE_DIFFICULTY));
+                        }
+                        return ids;
+                    }
+                }));
+            }
+
+            HashSet<Long> ids = new HashSet<>();
+            for (Future<List<Long>> future : futures) {
+                ids.addAll(future.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(threads * matches, ids.size());
+            assertEquals(threads * matches, manager.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class JSimulationTest {
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void run_null() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JSimulation.run((JSolver) null, new JCandidateSet(dictionary), Jotto.MAXIMUM_GUESS, ForkJoinPool.commonPool());
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void run_attempts() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JSimulation.run(new JSolver(dictionary, new JEntropyStrategy()), new JCandidateSet(dictionary), 0,
+                ForkJoinPool.commonPool());
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void solver() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JSimulation simulation = JSimulation.run(new JSolver(dictionary, new JMinimaxStrategy()),
+                new JCandidateSet(dictionary), Jotto.MAXIMUM_GUESS, ForkJoinPool.commonPool());
+
+        assertEquals(dictionary.length(), simulation.matches());
+        assertEquals(dictionary.length(), simulation.won());
+        assertEquals(0, simulation.lost());
+        assertTrue(simulation.average() >= 1);
+        assertTrue(simulation.throughput() > 0);
+
+        int matches = 0;
+        for (int turns : simulation.histogram()) {
+            matches += turns;
+        }
+        assertEquals(simulation.matches(), matches);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void lost() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JSimulation simulation = JSimulation.run(new JSolver(dictionary, new JMinimaxStrategy()),
+                new JCandidateSet(dictionary), 1, ForkJoinPool.commonPool());
+
+        assertEquals(1, simulation.won());
+        assertEquals(1, simulation.turns(1));
+        assertEquals(dictionary.length() - 1, simulation.lost());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void tree() throws Exception {
+        JDictionary dictionary;
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+        dictionary.feedbackMatrix();
+
+        JCandidateSet secrets = new JCandidateSet(dictionary, 0);
+        JStrategyTree tree = JStrategyTree.build(new JSolver(dictionary, new JEntropyStrategy()), secrets,
+                ForkJoinPool.commonPool());
+        JSimulation simulation = JSimulation.run(tree, secrets, Jotto.MAXIMUM_GUESS, ForkJoinPool.commonPool());
+
+        assertEquals(secrets.cardinality(), simulation.matches());
+        assertEquals(secrets.cardinality(), simulation.won());
+        assertEquals(tree.average(), simulation.average(), 1e-9);
+        assertEquals(tree.depth(), simulation.histogram().length - 1 - trailing(simulation.histogram()));
+        assertNotNull(simulation.toString());
+    }
+
+    static private int trailing(int[] histogram) {
+        int count = 0;
+        for (int turns = histogram.length - 1; turns > 0 && histogram[turns] == 0; turns--) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,170 @@
+package ca.jotto.model;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class JSolverTest {
+
+    static private JDictionary getDictionary() throws Exception {
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            return JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_null_dictionary() throws Exception {
+        new JSolver(null, new JEntropyStrategy());
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_null_strategy() throws Exception {
+        new JSolver(new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords()), null);
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void constructor_negative_budget() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        new JSolver(dictionary, new JEntropyStrategy(), ForkJoinPool.commonPool(), -1);
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void suggest_empty() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, new ArrayList<JWord>());
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy());
+        assertEquals(-1, solver.suggest(new JCandidateSet(dictionary)));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void suggest_single() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        candidates.narrow(dictionary.indexOf("PSYCH"), JFeedback.pack(0, 3));
+
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy());
+        assertEquals(dictionary.indexOf("MYTHS"), solver.suggest(candidates));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void entropy() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        int[] secrets = new JCandidateSet(dictionary).toArray();
+        int[] buckets = new int[JFeedback.CAPACITY];
+        JEntropyStrategy strategy = new JEntropyStrategy();
+
+        double value = strategy.evaluate(dictionary, dictionary.indexOf("MYTHS"), secrets, secrets.length, buckets, 0);
+        assertEquals(Math.log(secrets.length) / Math.log(2), value, 1e-9);
+        assertArrayEquals(new int[JFeedback.CAPACITY], buckets);
+
+        value = strategy.evaluate(dictionary, dictionary.indexOf("QUAKE"), secrets, secrets.length, buckets, 0);
+        double expected = -(0.8 * Math.log(0.8) + 0.2 * Math.log(0.2)) / Math.log(2);
+        assertEquals(expected, value, 1e-9);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void suggest_best() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        JEntropyStrategy strategy = new JEntropyStrategy();
+        int[] secrets = candidates.toArray();
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (int guess = 0; guess < dictionary.length(); guess++) {
+            best = Math.max(best, strategy.evaluate(dictionary, guess, secrets, secrets.length, new int[JFeedback.CAPACITY], 0));
+        }
+
+        int suggestion = new JSolver(dictionary, strategy).suggest(candidates);
+        double value = strategy.evaluate(dictionary, suggestion, secrets, secrets.length, new int[JFeedback.CAPACITY], 0);
+        assertEquals(best, value, 1e-9);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void hint() throws Exception {
+        JDictionary dictionary = getDictionary();
+        dictionary.feedbackMatrix();
+
+        Jotto jotto = new Jotto(dictionary);
+        JMatch match = jotto.construct(dictionary.get("CARVE"));
+        match.start();
+        match.guess("RECUT");
+
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy());
+        JWord hint = solver.hint(match);
+        assertNotNull(hint);
+        assertFalse(match.getHistory().contains(hint.word()));
+
+        for (int turn = 0; turn < 8 && match.isPlaying(); turn++) {
+            match.guess(solver.hint(match).word());
+        }
+        assertTrue(match.hasWon());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void suggest_budget() throws Exception {
+        JDictionary dictionary = getDictionary();
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+
+        JSolver solver = new JSolver(dictionary, new JEntropyStrategy(), ForkJoinPool.commonPool(), 1);
+        long start = System.nanoTime();
+        int suggestion = solver.suggest(candidates);
+        long elapsed = System.nanoTime() - start;
+
+        assertTrue(suggestion >= 0 && suggestion < dictionary.length());
+        assertTrue(elapsed < 1_000_000_000L);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void minimax() throws Exception {
+        JDictionary dictionary = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        int[] secrets = new JCandidateSet(dictionary).toArray();
+        int[] buckets = new int[JFeedback.CAPACITY];
+        JMinimaxStrategy strategy = new JMinimaxStrategy();
+
+        double value = strategy.evaluate(dictionary, dictionary.indexOf("QUAKE"), secrets, secrets.length, buckets, Double.NEGATIVE_INFINITY);
+        assertEquals(-4, value, 0);
+        assertArrayEquals(new int[JFeedback.CAPACITY], buckets);
+
+        value = strategy.evaluate(dictionary, dictionary.indexOf("MYTHS"), secrets, secrets.length, buckets, Double.NEGATIVE_INFINITY);
+        assertEquals(-1, value, 0);
+
+        value = strategy.evaluate(dictionary, dictionary.indexOf("QUAKE"), secrets, secrets.length, buckets, -1);
+        assertTrue(value < -1);
+        assertArrayEquals(new int[JFeedback.CAPACITY], buckets);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void minimax_dictionary() throws Exception {
+        JDictionary dictionary = getDictionary();
+        dictionary.feedbackMatrix();
+
+        JCandidateSet candidates = new JCandidateSet(dictionary);
+        candidates.narrow(dictionary.indexOf("RECUT"), dictionary.score(dictionary.indexOf("RECUT"), dictionary.indexOf("CARVE")));
+        int[] secrets = candidates.toArray();
+
+        JMinimaxStrategy strategy = new JMinimaxStrategy();
+        int suggestion = new JSolver(dictionary, strategy).suggest(candidates);
+        double value = strategy.evaluate(dictionary, suggestion, secrets, secrets.length, new int[JFeedback.CAPACITY], Double.NEGATIVE_INFINITY);
+
+        for (int guess = 0; guess < dictionary.length(); guess++) {
+            double other = strategy.evaluate(dictionary, guess, secrets, secrets.length, new int[JFeedback.CAPACITY], Double.NEGATIVE_INFINITY);
+            assertTrue(other <= value);
+        }
+    }
+}
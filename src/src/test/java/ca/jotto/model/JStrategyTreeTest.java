@@ -0,0 +1,167 @@
+package ca.jotto.model;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class JStrategyTreeTest {
+
+    private static final int DIFFICULTY = 0;
+
+    private static JDictionary dictionary;
+    private static JStrategyTree tree;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void build() throws Exception {
+        try (InputStream is = new FileInputStream("resources/words.txt")) {
+            dictionary = JDictionary.fromStream(JCharset.DEFAULT, is);
+        }
+        dictionary.feedbackMatrix();
+        tree = JStrategyTree.build(new JSolver(dictionary, new JEntropyStrategy()),
+                new JCandidateSet(dictionary, DIFFICULTY), ForkJoinPool.commonPool());
+    }
+
+    static private int solve(JStrategyTree tree, int secret) {
+        int won = JFeedback.pack(dictionary.size(), 0);
+        int node = tree.root();
+        for (int guesses = 1; node != -1; guesses++) {
+            int feedback = dictionary.score(tree.guess(node), secret);
+            if (feedback == won) {
+                return guesses;
+            }
+            node = tree.child(node, feedback);
+        }
+        return -1;
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void build_null() throws Exception {
+        JStrategyTree.build(null, new JCandidateSet(dictionary), ForkJoinPool.commonPool());
+    }
+
+    @Category(ValidationTests.class)
+    @Test(expected = AssertionError.class)
+    public void guess_bounds() throws Exception {
+        tree.guess(tree.nodes());
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void small() throws Exception {
+        JDictionary small = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        JStrategyTree tree = JStrategyTree.build(new JSolver(small, new JMinimaxStrategy()),
+                new JCandidateSet(small), ForkJoinPool.commonPool());
+
+        assertEquals(small.length(), tree.secrets());
+        assertTrue(tree.depth() >= 1);
+        assertTrue(tree.average() >= 1 && tree.average() <= tree.depth());
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void solves() throws Exception {
+        JCandidateSet candidates = new JCandidateSet(dictionary, DIFFICULTY);
+        assertEquals(candidates.cardinality(), tree.secrets());
+
+        int depth = 0;
+        long guesses = 0;
+        for (int secret = candidates.next(0); secret != -1; secret = candidates.next(secret + 1)) {
+            int solved = solve(tree, secret);
+            assertTrue(solved > 0);
+            depth = Math.max(depth, solved);
+            guesses += solved;
+        }
+
+        assertEquals(depth, tree.depth());
+        assertEquals((double) guesses / candidates.cardinality(), tree.average(), 1e-9);
+        assertTrue(tree.elapsed() > 0);
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void child_unreachable() throws Exception {
+        assertEquals(-1, tree.child(tree.root(), JFeedback.pack(dictionary.size(), 0)));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void write_open() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("tree.bin");
+        tree.write(path);
+        JStrategyTree copy = JStrategyTree.open(path, dictionary);
+
+        assertNotNull(copy);
+        assertEquals(tree.nodes(), copy.nodes());
+        assertEquals(tree.secrets(), copy.secrets());
+        assertEquals(tree.depth(), copy.depth());
+        assertEquals(tree.average(), copy.average(), 0);
+        assertEquals(tree.elapsed(), copy.elapsed());
+        for (int node = 0; node < tree.nodes(); node++) {
+            assertEquals(tree.guess(node), copy.guess(node));
+            for (int feedback = 0; feedback < JFeedback.CAPACITY; feedback++) {
+                assertEquals(tree.child(node, feedback), copy.child(node, feedback));
+            }
+        }
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void open_stale() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("tree.bin");
+        tree.write(path);
+
+        JDictionary other = new JDictionary(JCharset.DEFAULT, TestHelper.WORD_SIZE, TestHelper.getTestWords());
+        assertNull(JStrategyTree.open(path, other));
+        assertNull(JStrategyTree.open(folder.getRoot().toPath().resolve("missing.bin"), dictionary));
+
+        Files.write(path, new byte[JStrategyTree.HEADER]);
+        assertNull(JStrategyTree.open(path, dictionary));
+    }
+
+    @Category(ValidationTests.class)
+    @Test
+    public void open_malformed() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("tree.bin");
+        tree.write(path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        ByteBuffer child = ByteBuffer.wrap(bytes.clone());
+        child.putInt(JStrategyTree.HEADER + 4 * tree.nodes(), tree.nodes());
+        Files.write(path, child.array());
+        assertNull(JStrategyTree.open(path, dictionary));
+
+        ByteBuffer guess = ByteBuffer.wrap(bytes.clone());
+        guess.putInt(JStrategyTree.HEADER, dictionary.length());
+        Files.write(path, guess.array());
+        assertNull(JStrategyTree.open(path, dictionary));
+
+        Files.write(path, bytes);
+        assertNotNull(JStrategyTree.open(path, dictionary));
+    }
+
+    @Category(FunctionalTests.class)
+    @Test
+    public void play() throws Exception {
+        Jotto jotto = new Jotto(dictionary);
+        JMatch match = jotto.construct(dictionary.random(DIFFICULTY));
+        match.start();
+
+        assertTrue(tree.play(match));
+        assertTrue(match.getAttempts() <= tree.depth());
+    }
+}
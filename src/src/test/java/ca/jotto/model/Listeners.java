@@ -191,8 +191,9 @@ class OnChanged implements StateListener {
     }
 
     @Override
-    public void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState) {
+    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
         assertNotNull(jotto);
+        assertNotNull(match);
         assertNotNull(oldState);
         assertNotNull(newState);
 
@@ -218,7 +219,7 @@ class OnEliminated implements StateListener {
     }
 
     @Override
-    public void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState) {
+    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
     }
 
     @Override
@@ -241,7 +242,7 @@ class OnExact implements StateListener {
     }
 
     @Override
-    public void onGameStateChanged(Jotto jotto, JGameState oldState, JGameState newState) {
+    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
     }
 
     @Override
@@ -326,4 +327,63 @@ class OnGuess implements TurnListener {
 
         _flag.set(true);
     }
-}
\ No newline at end of file
+}
+abstract class OnAny implements GameListener, StateListener, TurnListener {
+
+    protected abstract void on();
+
+    @Override
+    public void onMatchStart(Jotto jotto, JMatch match) {
+        on();
+    }
+
+    @Override
+    public void onMatchOver(Jotto jotto, JMatch match) {
+        on();
+    }
+
+    @Override
+    public void onPlayerYield(Jotto jotto, JMatch match) {
+        on();
+    }
+
+    @Override
+    public void onPlayerWin(Jotto jotto, JMatch match) {
+        on();
+    }
+
+    @Override
+    public void onPlayerLoss(Jotto jotto, JMatch match) {
+        on();
+    }
+
+    @Override
+    public void onGameStateChanged(Jotto jotto, JMatch match, JGameState oldState, JGameState newState) {
+        on();
+    }
+
+    @Override
+    public void onCharacterEliminated(Jotto jotto, char character) {
+        on();
+    }
+
+    @Override
+    public void onCharacterExact(Jotto jotto, char character) {
+        on();
+    }
+
+    @Override
+    public void onTurnIncorrect(Jotto jotto, JGuess guess) {
+        on();
+    }
+
+    @Override
+    public void onTurnCorrect(Jotto jotto, JGuess guess) {
+        on();
+    }
+
+    @Override
+    public void onTurnGuess(Jotto jotto, JGuess guess) {
+        on();
+    }
+}